@@ -0,0 +1,138 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * End to end calls through {@link KubernetesApiClient} against a {@link StubApiServer}, measuring throughput and
+ * the latency distribution (p50, p99, p999 from the sample time mode), with the RESTEasy proxy and the direct
+ * {@link com.github.kubernetes.java.client.v2.KubernetesAPI} implementations. All benchmark threads share one
+ * client, as an application would.
+ * <p>
+ * JMH takes a single thread count per run, so {@link #main(String[])} runs the benchmarks with 1, 4, 16, 64 and
+ * 256 threads:
+ * 
+ * <pre>
+ * java -cp target/benchmarks.jar com.github.kubernetes.java.client.benchmarks.ClientBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class ClientBenchmark {
+
+    private static final int[] THREADS = { 1, 4, 16, 64, 256 };
+
+    /** Items returned by the list calls */
+    @Param({ "100" })
+    public int listSize;
+
+    @Param({ "PROXY", "DIRECT" })
+    public RestFactory.Implementation implementation;
+
+    private StubApiServer server;
+    private KubernetesApiClient client;
+    private Pod pod;
+    private Map<String, String> labels;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new StubApiServer(listSize).start();
+        // enough connections for every thread so the pool is not what is being measured
+        RestFactory factory = new RestFactory().maxConnectionsPerRoute(256).maxConnectionsTotal(256)
+                .implementation(implementation);
+        client = new KubernetesApiClient(server.getEndpoint(), "user", "password", factory);
+        pod = Fixtures.read(Fixtures.mapper(), "pod", Pod.class);
+        labels = ImmutableMap.of("name", "frontend", "tier", "web");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public Pod getPod() {
+        return client.getPod("frontend-controller-6ke8y");
+    }
+
+    @Benchmark
+    public PodList getAllPods() {
+        return client.getAllPods();
+    }
+
+    @Benchmark
+    public PodList getSelectedPods() {
+        return client.getSelectedPods(labels);
+    }
+
+    @Benchmark
+    public Pod createPod() {
+        return client.createPod(pod);
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        List<Integer> threads = new ArrayList<Integer>();
+        if (commandLine.getThreads().hasValue()) {
+            threads.add(commandLine.getThreads().get());
+        } else {
+            for (int t : THREADS) {
+                threads.add(t);
+            }
+        }
+        for (int t : threads) {
+            new Runner(new OptionsBuilder().parent(commandLine).include(ClientBenchmark.class.getSimpleName())
+                    .addProfiler(GCProfiler.class).threads(t).build()).run();
+        }
+    }
+}
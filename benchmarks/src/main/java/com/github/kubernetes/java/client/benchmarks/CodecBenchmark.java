@@ -0,0 +1,104 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.codec.AfterburnerCodec;
+import com.github.kubernetes.java.client.codec.GeneratedCodec;
+import com.github.kubernetes.java.client.codec.JacksonCodec;
+import com.github.kubernetes.java.client.codec.JsonCodec;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+
+/**
+ * Compares the {@link JsonCodec} implementations on a single pod and a 1000 pod list, the payloads of
+ * <code>getPod</code> and <code>getAllPods</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({ "jackson", "afterburner", "generated" })
+    public String codecName;
+
+    private JsonCodec codec;
+    private Pod pod;
+    private byte[] podJson;
+    private PodList podList;
+    private byte[] podListJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        if ("afterburner".equals(codecName)) {
+            codec = new AfterburnerCodec();
+        } else if ("generated".equals(codecName)) {
+            codec = new GeneratedCodec();
+        } else {
+            codec = new JacksonCodec(new JacksonConfig(JacksonConfig.createObjectMapper()));
+        }
+        ObjectMapper mapper = Fixtures.mapper();
+        pod = Fixtures.read(mapper, "pod", Pod.class);
+        podJson = mapper.writeValueAsBytes(pod);
+        podList = Fixtures.podList(mapper, 1000);
+        podListJson = mapper.writeValueAsBytes(podList);
+    }
+
+    @Benchmark
+    public Pod decodePod() throws IOException {
+        return codec.read(new ByteArrayInputStream(podJson), Pod.class);
+    }
+
+    @Benchmark
+    public byte[] encodePod() throws IOException {
+        return codec.write(pod);
+    }
+
+    @Benchmark
+    public PodList decodePodList() throws IOException {
+        return codec.read(new ByteArrayInputStream(podListJson), PodList.class);
+    }
+
+    @Benchmark
+    public byte[] encodePodList() throws IOException {
+        return codec.write(podList);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Sample API objects for the benchmarks, loaded from the <code>fixtures</code> resources, which are modelled on
+ * the v1beta2 responses of a running cluster.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * The mapper used by the client for requests and responses.
+     */
+    public static ObjectMapper mapper() {
+        return JacksonConfig.getDefault().getObjectMapper();
+    }
+
+    public static byte[] json(String name) {
+        InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name + ".json");
+        if (in == null) {
+            throw new IllegalArgumentException("No fixture " + name);
+        }
+        try {
+            try {
+                return ByteStreams.toByteArray(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static <T> T read(ObjectMapper mapper, String name, Class<T> type) {
+        try {
+            return mapper.readValue(json(name), type);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * A list of <code>size</code> copies of the pod fixture, each with its own id.
+     */
+    public static PodList podList(ObjectMapper mapper, int size) {
+        PodList list = new PodList();
+        list.setResourceVersion(size);
+        byte[] json = json("pod");
+        try {
+            for (int i = 0; i < size; i++) {
+                Pod pod = mapper.readValue(json, Pod.class);
+                pod.setId("frontend-controller-" + i);
+                pod.setResourceVersion(i);
+                list.getItems().add(pod);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return list;
+    }
+}
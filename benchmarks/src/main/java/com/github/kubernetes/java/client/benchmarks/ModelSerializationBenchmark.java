@@ -0,0 +1,119 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.Service;
+
+/**
+ * Serialization and deserialization of single API objects with the client's {@link ObjectMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelSerializationBenchmark {
+
+    private ObjectMapper mapper;
+
+    private Pod pod;
+    private ReplicationController replicationController;
+    private Service service;
+    private Status status;
+
+    private byte[] podJson;
+    private byte[] replicationControllerJson;
+    private byte[] serviceJson;
+    private byte[] statusJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = Fixtures.mapper();
+        pod = Fixtures.read(mapper, "pod", Pod.class);
+        replicationController = Fixtures.read(mapper, "replicationController", ReplicationController.class);
+        service = Fixtures.read(mapper, "service", Service.class);
+        status = Fixtures.read(mapper, "status", Status.class);
+        // serialized by the mapper itself so both directions work on the same document
+        podJson = mapper.writeValueAsBytes(pod);
+        replicationControllerJson = mapper.writeValueAsBytes(replicationController);
+        serviceJson = mapper.writeValueAsBytes(service);
+        statusJson = mapper.writeValueAsBytes(status);
+    }
+
+    @Benchmark
+    public byte[] serializePod() throws IOException {
+        return mapper.writeValueAsBytes(pod);
+    }
+
+    @Benchmark
+    public Pod deserializePod() throws IOException {
+        return mapper.readValue(podJson, Pod.class);
+    }
+
+    @Benchmark
+    public byte[] serializeReplicationController() throws IOException {
+        return mapper.writeValueAsBytes(replicationController);
+    }
+
+    @Benchmark
+    public ReplicationController deserializeReplicationController() throws IOException {
+        return mapper.readValue(replicationControllerJson, ReplicationController.class);
+    }
+
+    @Benchmark
+    public byte[] serializeService() throws IOException {
+        return mapper.writeValueAsBytes(service);
+    }
+
+    @Benchmark
+    public Service deserializeService() throws IOException {
+        return mapper.readValue(serviceJson, Service.class);
+    }
+
+    @Benchmark
+    public byte[] serializeStatus() throws IOException {
+        return mapper.writeValueAsBytes(status);
+    }
+
+    @Benchmark
+    public Status deserializeStatus() throws IOException {
+        return mapper.readValue(statusJson, Status.class);
+    }
+}
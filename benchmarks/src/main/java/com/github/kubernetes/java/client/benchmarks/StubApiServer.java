@@ -0,0 +1,123 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP server answering <code>/api/v1beta2/pods</code>, <code>/replicationControllers</code> and
+ * <code>/services</code> with canned responses built from the fixtures, so the client can be measured without a
+ * cluster. Lists return <code>listSize</code> items, GETs of a single object always return the same fixture and
+ * POST/PUT echo the request body.
+ */
+public class StubApiServer {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public StubApiServer(int listSize) throws IOException {
+        ObjectMapper mapper = Fixtures.mapper();
+
+        ReplicationControllerList controllers = new ReplicationControllerList();
+        ServiceList services = new ServiceList();
+        for (int i = 0; i < listSize; i++) {
+            controllers.getItems().add(Fixtures.read(mapper, "replicationController", ReplicationController.class));
+            services.getItems().add(Fixtures.read(mapper, "service", Service.class));
+        }
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/api/v1beta2/pods", new CannedHandler(Fixtures.json("pod"),
+                mapper.writeValueAsBytes(Fixtures.podList(mapper, listSize))));
+        server.createContext("/api/v1beta2/replicationControllers", new CannedHandler(
+                Fixtures.json("replicationController"), mapper.writeValueAsBytes(controllers)));
+        server.createContext("/api/v1beta2/services", new CannedHandler(Fixtures.json("service"),
+                mapper.writeValueAsBytes(services)));
+    }
+
+    public StubApiServer start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Endpoint to give to the client.
+     */
+    public String getEndpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static class CannedHandler implements HttpHandler {
+
+        private final byte[] item;
+        private final byte[] list;
+
+        CannedHandler(byte[] item, byte[] list) {
+            this.item = item;
+            this.list = list;
+        }
+
+        public void handle(HttpExchange exchange) throws IOException {
+            String method = exchange.getRequestMethod();
+            boolean collection = exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath());
+            InputStream in = exchange.getRequestBody();
+            byte[] request = ByteStreams.toByteArray(in);
+            in.close();
+
+            byte[] body;
+            int code = 200;
+            if ("GET".equals(method)) {
+                body = collection ? list : item;
+            } else if ("POST".equals(method) || "PUT".equals(method)) {
+                body = request;
+                code = "POST".equals(method) ? 201 : 200;
+            } else {
+                body = "{\"kind\":\"Status\",\"status\":\"Success\"}".getBytes("UTF-8");
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(code, body.length);
+            OutputStream out = exchange.getResponseBody();
+            out.write(body);
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.kubernetes.java.client.v2.ExecutorKubernetesClient;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.github.kubernetes.java.client.v2.VirtualThreads;
+
+/**
+ * Time to complete a burst of concurrent <code>getPod</code> calls through an {@link ExecutorKubernetesClient}
+ * against a {@link StubApiServer}, with each call on a virtual thread (<code>VIRTUAL</code>, needs Java 21) or
+ * on a fixed pool of platform threads (<code>PLATFORM</code>). Both share a connection pool of the same size as
+ * the platform pool, so the difference is the cost of parking and scheduling the waiting calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class VirtualThreadBenchmark {
+
+    public enum Threads {
+        PLATFORM, VIRTUAL
+    }
+
+    /** Concurrent calls started by each benchmark operation */
+    @Param({ "10000" })
+    public int calls;
+
+    /** Platform threads in the pool, and connections to the server for both */
+    @Param({ "256" })
+    public int poolSize;
+
+    @Param({ "PLATFORM", "VIRTUAL" })
+    public Threads threads;
+
+    private StubApiServer server;
+    private ExecutorService executor;
+    private ExecutorKubernetesClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (threads == Threads.VIRTUAL && !VirtualThreads.isAvailable()) {
+            throw new IllegalStateException("VIRTUAL needs Java 21, running " + System.getProperty("java.version"));
+        }
+        server = new StubApiServer(1).start();
+        KubernetesApiClient api = new KubernetesApiClient(server.getEndpoint(), "user", "password",
+                new RestFactory().connectionPoolSize(poolSize));
+        executor = threads == Threads.VIRTUAL ? VirtualThreads.newExecutor() : Executors
+                .newFixedThreadPool(poolSize);
+        client = new ExecutorKubernetesClient(api, executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        server.stop();
+    }
+
+    @Benchmark
+    public void getPod() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[calls];
+        for (int i = 0; i < calls; i++) {
+            futures[i] = client.getPod("frontend-controller-6ke8y");
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.cache;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.interfaces.Watcher;
+import com.github.kubernetes.java.client.model.AbstractKubernetesModel;
+import com.github.kubernetes.java.client.model.AbstractKubernetesModelList;
+import com.github.kubernetes.java.client.model.WatchEvent;
+import com.github.kubernetes.java.client.v2.Watch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Local copy of a collection of resources, kept current with a watch. The cache is loaded with a full list on
+ * {@link #start()} and then updated from watch events, ignoring any update older than the
+ * {@link AbstractKubernetesModel#getResourceVersion() resourceVersion} already cached. If the watch ends the
+ * cache lists and watches again, retrying with exponential backoff until it succeeds or the cache is closed.
+ * Reloads always run on a background thread, never on the thread that reported the end of the watch.
+ * <p>
+ * Reads never block and are answered from memory, label queries use an inverted index of
+ * <code>key=value</code> to ids.
+ */
+public abstract class AbstractCache<T extends AbstractKubernetesModel> implements Watcher<T>, Closeable {
+
+    private static final Log LOG = LogFactory.getLog(AbstractCache.class);
+
+    private static final ScheduledExecutorService RELOADS = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("kubernetes-cache-reload-%d").setDaemon(true).build());
+
+    private final ConcurrentMap<String, T> items = new ConcurrentHashMap<String, T>();
+    private final ConcurrentMap<String, Set<String>> labelIndex = new ConcurrentHashMap<String, Set<String>>();
+
+    /**
+     * Guards updates. A lock rather than <code>synchronized</code> because {@link #start()} lists and opens the
+     * watch while holding it, which would pin the carrier thread if called from a virtual thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Watch<T> watch;
+    private volatile boolean closed;
+    /**
+     * Bumped on every new watch and on {@link #close()}, so reloads scheduled and callbacks of watches from
+     * before are ignored.
+     */
+    private final AtomicInteger generation = new AtomicInteger();
+    private int resourceVersion;
+    private volatile long initialBackoffNanos = TimeUnit.SECONDS.toNanos(1);
+    private volatile long maxBackoffNanos = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * List all the resources from the server.
+     */
+    protected abstract AbstractKubernetesModelList<T> list() throws KubernetesClientException;
+
+    /**
+     * Start watching the resources after the given resourceVersion.
+     */
+    protected abstract Watch<T> watch(int resourceVersion, Watcher<T> watcher) throws KubernetesClientException;
+
+    /**
+     * The labels of a resource, may be null.
+     */
+    protected abstract Map<String, String> getLabels(T item);
+
+    /**
+     * Wait between attempts to reload the cache after the watch ends, doubling from <code>initial</code> up to
+     * <code>max</code>.
+     */
+    public AbstractCache<T> reloadBackoff(long initial, long max, TimeUnit unit) {
+        if (initial <= 0 || max < initial) {
+            throw new IllegalArgumentException("Invalid backoff " + initial + " to " + max);
+        }
+        this.initialBackoffNanos = unit.toNanos(initial);
+        this.maxBackoffNanos = unit.toNanos(max);
+        return this;
+    }
+
+    /**
+     * Load the cache and start watching for changes, also reopening a closed cache.
+     */
+    public void start() throws KubernetesClientException {
+        lock.lock();
+        try {
+            closed = false;
+            load();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * List and watch unless closed, called with the lock held.
+     */
+    private void load() throws KubernetesClientException {
+        if (closed) {
+            return;
+        }
+        AbstractKubernetesModelList<T> list = list();
+        int version = list.getResourceVersion();
+        Set<String> ids = new HashSet<String>();
+        for (T item : list) {
+            ids.add(item.getId());
+            version = Math.max(version, item.getResourceVersion());
+            put(item);
+        }
+        // drop anything deleted while we were not watching
+        for (T item : items.values()) {
+            if (!ids.contains(item.getId())) {
+                remove(item);
+            }
+        }
+        resourceVersion = version;
+        Watch<T> previous = watch;
+        watch = null;
+        if (previous != null) {
+            previous.close();
+        }
+        final int current = generation.incrementAndGet();
+        Watch<T> w = watch(version, new Watcher<T>() {
+            public void eventReceived(WatchEvent<T> event) {
+                if (generation.get() == current) {
+                    AbstractCache.this.eventReceived(event);
+                }
+            }
+
+            public void onClose(KubernetesClientException cause) {
+                if (generation.get() == current) {
+                    AbstractCache.this.onClose(cause);
+                }
+            }
+        });
+        watch = w;
+        if (closed && w != null) {
+            // closed while we were listing or opening the watch
+            w.close();
+        }
+    }
+
+    /**
+     * Stop watching, the cached items remain available but are no longer updated.
+     */
+    public void close() {
+        closed = true;
+        generation.incrementAndGet();
+        Watch<T> w = watch;
+        if (w != null) {
+            w.close();
+        }
+    }
+
+    public T get(String id) {
+        return items.get(id);
+    }
+
+    public List<T> list(Map<String, String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return new ArrayList<T>(items.values());
+        }
+        // start from the smallest posting set and check the rest of labels on the candidates
+        Set<String> smallest = null;
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            Set<String> ids = labelIndex.get(indexKey(label.getKey(), label.getValue()));
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        List<T> result = new ArrayList<T>(smallest.size());
+        for (String id : smallest) {
+            T item = items.get(id);
+            if (item != null && matches(getLabels(item), labels)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    public Collection<T> getAll() {
+        return Collections.unmodifiableCollection(items.values());
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * The highest resourceVersion seen by this cache.
+     */
+    public int getResourceVersion() {
+        lock.lock();
+        try {
+            return resourceVersion;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void eventReceived(WatchEvent<T> event) {
+        lock.lock();
+        try {
+            T item = event.getObject();
+            if (item == null || item.getId() == null) {
+                return;
+            }
+            resourceVersion = Math.max(resourceVersion, item.getResourceVersion());
+            T current = items.get(item.getId());
+            if (current != null && current.getResourceVersion() > item.getResourceVersion()) {
+                // stale, we already have a newer version
+                return;
+            }
+            switch (event.getType()) {
+            case ADDED:
+            case MODIFIED:
+                put(item);
+                break;
+            case DELETED:
+                if (current != null) {
+                    remove(current);
+                }
+                break;
+            default:
+                break;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onClose(KubernetesClientException cause) {
+        if (closed) {
+            return;
+        }
+        if (cause != null) {
+            LOG.warn("Watch failed, reloading cache", cause);
+        }
+        final int current = generation.get();
+        RELOADS.execute(() -> reload(1, current));
+    }
+
+    /**
+     * Relist and rewatch, scheduling another attempt if it fails. Does nothing once closed, or if the cache was
+     * closed, restarted or reloaded since the attempt was scheduled.
+     */
+    private void reload(final int attempt, int expectedGeneration) {
+        lock.lock();
+        try {
+            if (closed || generation.get() != expectedGeneration) {
+                return;
+            }
+            load();
+        } catch (RuntimeException e) {
+            long backoff = initialBackoffNanos << Math.min(attempt - 1, 30);
+            if (backoff <= 0 || backoff > maxBackoffNanos) {
+                backoff = maxBackoffNanos;
+            }
+            LOG.warn("Unable to reload cache, retrying in " + TimeUnit.NANOSECONDS.toMillis(backoff) + "ms", e);
+            // the failed load may have got as far as bumping the generation
+            final int current = generation.get();
+            RELOADS.schedule(() -> reload(attempt + 1, current), backoff, TimeUnit.NANOSECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(T item) {
+        lock.lock();
+        try {
+            T previous = items.put(item.getId(), item);
+            if (previous != null) {
+                unindex(previous);
+            }
+            Map<String, String> labels = getLabels(item);
+            if (labels != null) {
+                for (Map.Entry<String, String> label : labels.entrySet()) {
+                    String key = indexKey(label.getKey(), label.getValue());
+                    Set<String> ids = labelIndex.get(key);
+                    if (ids == null) {
+                        ids = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                        labelIndex.put(key, ids);
+                    }
+                    ids.add(item.getId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(T item) {
+        lock.lock();
+        try {
+            items.remove(item.getId());
+            unindex(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unindex(T item) {
+        Map<String, String> labels = getLabels(item);
+        if (labels == null) {
+            return;
+        }
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            String key = indexKey(label.getKey(), label.getValue());
+            Set<String> ids = labelIndex.get(key);
+            if (ids != null) {
+                ids.remove(item.getId());
+                if (ids.isEmpty()) {
+                    labelIndex.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String indexKey(String key, String value) {
+        return key + "=" + value;
+    }
+
+    private static boolean matches(Map<String, String> labels, Map<String, String> selector) {
+        if (labels == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : selector.entrySet()) {
+            if (!entry.getValue().equals(labels.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.cache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.interfaces.KubernetesAPIClientInterface;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * {@link KubernetesAPIClientInterface} answering <code>getPod</code>, <code>getReplicationController</code> and
+ * <code>getService</code> from memory for a given time after fetching them, for callers that can accept data that
+ * old and don't want to keep a watch open like {@link PodCache}. Missing objects, returned as null, are cached
+ * too. Concurrent misses for the same object make a single request.
+ * <p>
+ * Writes made through this client update or drop the cached object, writes made elsewhere are seen once the entry
+ * expires. Lists and label queries are not cached. The cache holds up to a maximum number of objects, evicting
+ * the least recently used. Cached objects are returned to every caller, so they must not be modified.
+ * 
+ * <pre>
+ * KubernetesAPIClientInterface client = new CachingKubernetesClient(new KubernetesApiClient(endpoint, user,
+ *         password), 5, TimeUnit.SECONDS, 10000);
+ * </pre>
+ */
+public class CachingKubernetesClient implements KubernetesAPIClientInterface {
+
+    private static final String PODS = "pods/";
+    private static final String REPLICATION_CONTROLLERS = "replicationControllers/";
+    private static final String SERVICES = "services/";
+
+    private final KubernetesAPIClientInterface client;
+    private final Cache<String, Optional<Object>> cache;
+
+    /**
+     * @param client
+     *            client to read through and write to
+     * @param ttl
+     *            how long an object is served from memory after being fetched
+     * @param maxEntries
+     *            maximum number of objects, present or missing, to keep
+     */
+    public CachingKubernetesClient(KubernetesAPIClientInterface client, long ttl, TimeUnit unit, int maxEntries) {
+        this.client = client;
+        this.cache = CacheBuilder.newBuilder().expireAfterWrite(ttl, unit).maximumSize(maxEntries).recordStats()
+                .build();
+    }
+
+    public Pod getPod(final String podId) throws KubernetesClientException {
+        return get(PODS + podId, Pod.class, new Callable<Pod>() {
+            public Pod call() {
+                return client.getPod(podId);
+            }
+        });
+    }
+
+    public PodList getAllPods() throws KubernetesClientException {
+        return client.getAllPods();
+    }
+
+    public PodList getSelectedPods(Map<String, String> labels) throws KubernetesClientException {
+        return client.getSelectedPods(labels);
+    }
+
+    public Pod createPod(Pod pod) throws KubernetesClientException {
+        try {
+            Pod created = client.createPod(pod);
+            put(PODS + (created == null ? pod.getId() : created.getId()), created);
+            return created;
+        } catch (KubernetesClientException e) {
+            cache.invalidate(PODS + pod.getId());
+            throw e;
+        }
+    }
+
+    public Status deletePod(String podId) throws KubernetesClientException {
+        try {
+            return client.deletePod(podId);
+        } finally {
+            // may still be around while terminating, don't assume it's gone
+            cache.invalidate(PODS + podId);
+        }
+    }
+
+    public ReplicationController getReplicationController(final String controllerId)
+            throws KubernetesClientException {
+        return get(REPLICATION_CONTROLLERS + controllerId, ReplicationController.class,
+                new Callable<ReplicationController>() {
+                    public ReplicationController call() {
+                        return client.getReplicationController(controllerId);
+                    }
+                });
+    }
+
+    public ReplicationControllerList getAllReplicationControllers() throws KubernetesClientException {
+        return client.getAllReplicationControllers();
+    }
+
+    public ReplicationController createReplicationController(ReplicationController controller)
+            throws KubernetesClientException {
+        try {
+            ReplicationController created = client.createReplicationController(controller);
+            put(REPLICATION_CONTROLLERS + (created == null ? controller.getId() : created.getId()), created);
+            return created;
+        } catch (KubernetesClientException e) {
+            cache.invalidate(REPLICATION_CONTROLLERS + controller.getId());
+            throw e;
+        }
+    }
+
+    public ReplicationController updateReplicationController(String controllerId, int replicas)
+            throws KubernetesClientException {
+        try {
+            ReplicationController updated = client.updateReplicationController(controllerId, replicas);
+            put(REPLICATION_CONTROLLERS + controllerId, updated);
+            return updated;
+        } catch (KubernetesClientException e) {
+            cache.invalidate(REPLICATION_CONTROLLERS + controllerId);
+            throw e;
+        }
+    }
+
+    public Status deleteReplicationController(String controllerId) throws KubernetesClientException {
+        try {
+            return client.deleteReplicationController(controllerId);
+        } finally {
+            cache.invalidate(REPLICATION_CONTROLLERS + controllerId);
+        }
+    }
+
+    public Service getService(final String serviceId) throws KubernetesClientException {
+        return get(SERVICES + serviceId, Service.class, new Callable<Service>() {
+            public Service call() {
+                return client.getService(serviceId);
+            }
+        });
+    }
+
+    public ServiceList getAllServices() throws KubernetesClientException {
+        return client.getAllServices();
+    }
+
+    public Service createService(Service service) throws KubernetesClientException {
+        try {
+            Service created = client.createService(service);
+            put(SERVICES + (created == null ? service.getId() : created.getId()), created);
+            return created;
+        } catch (KubernetesClientException e) {
+            cache.invalidate(SERVICES + service.getId());
+            throw e;
+        }
+    }
+
+    public Status deleteService(String serviceId) throws KubernetesClientException {
+        try {
+            return client.deleteService(serviceId);
+        } finally {
+            cache.invalidate(SERVICES + serviceId);
+        }
+    }
+
+    /**
+     * Gets answered from memory, including missing objects.
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * Gets sent to the server, because the object was not cached or expired.
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Fraction of the gets answered from memory, 1 if there were none.
+     */
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+
+    /**
+     * Objects dropped to stay under the maximum size.
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    /**
+     * All the counters, as kept by the underlying Guava cache.
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Drop all the cached objects, so the next gets go to the server.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private <T> T get(String key, Class<T> type, final Callable<T> loader) {
+        try {
+            return type.cast(cache.get(key, new Callable<Optional<Object>>() {
+                public Optional<Object> call() throws Exception {
+                    return Optional.<Object> fromNullable(loader.call());
+                }
+            }).orNull());
+        } catch (ExecutionException e) {
+            throw new KubernetesClientException("Unable to get " + key, e);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof KubernetesClientException) {
+                throw (KubernetesClientException) e.getCause();
+            }
+            throw e;
+        } catch (ExecutionError e) {
+            throw (Error) e.getCause();
+        }
+    }
+
+    private void put(String key, Object value) {
+        if (value == null) {
+            cache.invalidate(key);
+        } else {
+            cache.put(key, Optional.of(value));
+        }
+    }
+}
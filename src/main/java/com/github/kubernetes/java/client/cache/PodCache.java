@@ -0,0 +1,67 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.cache;
+
+import java.util.Map;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.interfaces.Watcher;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.Watch;
+
+/**
+ * Watch backed cache of all the pods.
+ */
+public class PodCache extends AbstractCache<Pod> {
+
+    private final KubernetesApiClient client;
+
+    public PodCache(KubernetesApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    protected PodList list() throws KubernetesClientException {
+        return client.getAllPods();
+    }
+
+    @Override
+    protected Watch<Pod> watch(int resourceVersion, Watcher<Pod> watcher) throws KubernetesClientException {
+        return client.watchPods(resourceVersion, watcher);
+    }
+
+    @Override
+    protected Map<String, String> getLabels(Pod item) {
+        return item.getLabels();
+    }
+
+    /**
+     * Same as {@link KubernetesApiClient#getSelectedPods(Map)}, answered from the cache.
+     */
+    public PodList getSelectedPods(Map<String, String> labels) {
+        PodList pods = new PodList();
+        pods.setItems(list(labels));
+        pods.setResourceVersion(getResourceVersion());
+        return pods;
+    }
+}
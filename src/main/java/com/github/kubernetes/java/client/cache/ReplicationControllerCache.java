@@ -0,0 +1,58 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.cache;
+
+import java.util.Map;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.interfaces.Watcher;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.Watch;
+
+/**
+ * Watch backed cache of all the replication controllers.
+ */
+public class ReplicationControllerCache extends AbstractCache<ReplicationController> {
+
+    private final KubernetesApiClient client;
+
+    public ReplicationControllerCache(KubernetesApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    protected ReplicationControllerList list() throws KubernetesClientException {
+        return client.getAllReplicationControllers();
+    }
+
+    @Override
+    protected Watch<ReplicationController> watch(int resourceVersion, Watcher<ReplicationController> watcher)
+            throws KubernetesClientException {
+        return client.watchReplicationControllers(resourceVersion, watcher);
+    }
+
+    @Override
+    protected Map<String, String> getLabels(ReplicationController item) {
+        return item.getLabels();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.codec;
+
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+
+/**
+ * {@link JacksonCodec} with the Jackson Afterburner module, which replaces the reflection used to get and set
+ * properties and to create objects with generated bytecode. Needs
+ * <code>com.fasterxml.jackson.module:jackson-module-afterburner</code> on the classpath, which is an optional
+ * dependency.
+ */
+public class AfterburnerCodec extends JacksonCodec {
+
+    public AfterburnerCodec() {
+        super(new JacksonConfig(JacksonConfig.createObjectMapper().registerModule(new AfterburnerModule())));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.codec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a streaming {@link TypeCodec} for the annotated class at build time, and for every bean type reachable
+ * from its properties. The codec for <code>Foo</code> is <code>Foo_Codec</code> in the same package, found at
+ * runtime by {@link GeneratedCodec}.
+ * <p>
+ * Properties are discovered like Jackson does with the settings of
+ * {@link com.github.kubernetes.java.client.v2.JacksonConfig#createObjectMapper()}: public getters and setters,
+ * honouring <code>@JsonIgnore</code> and <code>@JsonProperty</code>, null values omitted and unknown properties
+ * skipped.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateCodec {
+}
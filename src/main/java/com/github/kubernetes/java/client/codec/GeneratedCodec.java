@@ -0,0 +1,158 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+
+/**
+ * {@link JsonCodec} using the {@link TypeCodec}s generated for the classes annotated with {@link GenerateCodec},
+ * so the model objects are encoded and decoded without reflection or serializer construction. Types without a
+ * generated codec go through the Jackson codec this extends.
+ * <p>
+ * The generated codecs follow the settings of {@link JacksonConfig#createObjectMapper()}, customizations of the
+ * mapper only apply to the fallback.
+ */
+public class GeneratedCodec extends JacksonCodec {
+
+    static final String SUFFIX = "_Codec";
+
+    /** Codec lookups by type, {@link #NONE} if there is no generated codec */
+    private static final ConcurrentMap<Class<?>, TypeCodec<?>> CODECS = new ConcurrentHashMap<Class<?>, TypeCodec<?>>();
+
+    private static final TypeCodec<?> NONE = new TypeCodec<Object>() {
+        public Object read(JsonParser parser) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void write(Object value, JsonGenerator generator) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private final JsonFactory factory;
+
+    public GeneratedCodec() {
+        this(JacksonConfig.getDefault());
+    }
+
+    public GeneratedCodec(JacksonConfig config) {
+        super(config);
+        factory = config.getObjectMapper().getFactory();
+    }
+
+    /**
+     * Whether the model codecs were generated in this build.
+     */
+    public static boolean isAvailable() {
+        return find(Pod.class) != null;
+    }
+
+    /**
+     * The generated codec of a type, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeCodec<T> find(Class<T> type) {
+        TypeCodec<?> codec = CODECS.get(type);
+        if (codec == null) {
+            codec = CODECS.computeIfAbsent(type, GeneratedCodec::load);
+        }
+        return codec == NONE ? null : (TypeCodec<T>) codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeCodec<Object> codecOf(Object value) {
+        return (TypeCodec<Object>) find(value.getClass());
+    }
+
+    private static TypeCodec<?> load(Class<?> type) {
+        try {
+            Class<?> codec = Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+            return (TypeCodec<?>) codec.getField("INSTANCE").get(null);
+        } catch (ClassNotFoundException e) {
+            return NONE;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Invalid generated codec for " + type.getName(), e);
+        }
+    }
+
+    @Override
+    public <T> T read(InputStream in, Class<T> type) throws IOException {
+        TypeCodec<T> codec = find(type);
+        if (codec == null) {
+            return super.read(in, type);
+        }
+        JsonParser parser = factory.createParser(in);
+        try {
+            if (parser.nextToken() == null) {
+                throw JsonMappingException.from(parser, "No content to map due to end-of-input");
+            }
+            return codec.read(parser);
+        } finally {
+            parser.close();
+        }
+    }
+
+    @Override
+    public void write(Object value, OutputStream out) throws IOException {
+        TypeCodec<Object> codec = codecOf(value);
+        if (codec == null) {
+            super.write(value, out);
+            return;
+        }
+        JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8);
+        try {
+            codec.write(value, generator);
+        } finally {
+            generator.close();
+        }
+    }
+
+    @Override
+    public byte[] write(Object value) throws IOException {
+        TypeCodec<Object> codec = codecOf(value);
+        if (codec == null) {
+            return super.write(value);
+        }
+        ByteArrayBuilder bytes = new ByteArrayBuilder(factory._getBufferRecycler());
+        JsonGenerator generator = factory.createGenerator(bytes, JsonEncoding.UTF8);
+        try {
+            codec.write(value, generator);
+        } finally {
+            generator.close();
+        }
+        byte[] result = bytes.toByteArray();
+        bytes.release();
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+
+/**
+ * {@link JsonCodec} using Jackson databind, through the readers and writers cached by a {@link JacksonConfig}.
+ * This is the default codec.
+ */
+public class JacksonCodec implements JsonCodec {
+
+    private final JacksonConfig config;
+
+    public JacksonCodec(JacksonConfig config) {
+        this.config = config;
+    }
+
+    public JacksonConfig getConfig() {
+        return config;
+    }
+
+    public <T> T read(InputStream in, Class<T> type) throws IOException {
+        return config.reader(type).readValue(in);
+    }
+
+    public void write(Object value, OutputStream out) throws IOException {
+        config.writer(value.getClass()).writeValue(out, value);
+    }
+
+    public byte[] write(Object value) throws IOException {
+        return config.writer(value.getClass()).writeValueAsBytes(value);
+    }
+}
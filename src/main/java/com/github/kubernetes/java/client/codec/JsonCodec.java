@@ -0,0 +1,51 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Encodes request bodies and decodes response bodies, for the model classes and
+ * {@link com.github.kubernetes.java.client.exceptions.Status}. Implementations must be thread safe, one instance
+ * is used by all the calls of the clients it is given to.
+ * 
+ * @see JacksonCodec
+ * @see AfterburnerCodec
+ */
+public interface JsonCodec {
+
+    /**
+     * Decode a value of the given type. The stream is closed by the caller.
+     */
+    public <T> T read(InputStream in, Class<T> type) throws IOException;
+
+    /**
+     * Encode the value to the stream. The stream is closed by the caller.
+     */
+    public void write(Object value, OutputStream out) throws IOException;
+
+    /**
+     * Encode the value to a byte array.
+     */
+    public byte[] write(Object value) throws IOException;
+}
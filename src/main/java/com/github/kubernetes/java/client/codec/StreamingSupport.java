@@ -0,0 +1,185 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.codec;
+
+import java.io.IOException;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Scalar conversions used by the generated {@link TypeCodec}s, accepting the same inputs as the Jackson
+ * deserializers: numbers and booleans as strings, strings from any scalar, and null as the default value of
+ * primitives.
+ */
+public final class StreamingSupport {
+
+    private static final DateTimeFormatter DATE_TIME = ISODateTimeFormat.dateTime().withZoneUTC();
+
+    private StreamingSupport() {
+    }
+
+    /**
+     * Fail unless the parser is on the given token.
+     */
+    public static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.getCurrentToken() != token) {
+            throw unexpected(parser, token.asString());
+        }
+    }
+
+    public static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == null || !token.isScalarValue()) {
+            throw unexpected(parser, "string");
+        }
+        return parser.getText();
+    }
+
+    public static int readInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return text.isEmpty() ? 0 : Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                throw new JsonParseException("Not a valid int: " + text, parser.getCurrentLocation(), e);
+            }
+        }
+        throw unexpected(parser, "int");
+    }
+
+    public static long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsLong();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0L;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return text.isEmpty() ? 0L : Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                throw new JsonParseException("Not a valid long: " + text, parser.getCurrentLocation(), e);
+            }
+        }
+        throw unexpected(parser, "long");
+    }
+
+    public static double readDouble(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsDouble();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0d;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return text.isEmpty() ? 0d : Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw new JsonParseException("Not a valid double: " + text, parser.getCurrentLocation(), e);
+            }
+        }
+        throw unexpected(parser, "double");
+    }
+
+    public static boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (token == JsonToken.VALUE_FALSE || token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue() != 0;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if ("true".equals(text)) {
+                return true;
+            }
+            if ("false".equals(text) || text.isEmpty()) {
+                return false;
+            }
+            throw new JsonParseException("Not a valid boolean: " + text, parser.getCurrentLocation());
+        }
+        throw unexpected(parser, "boolean");
+    }
+
+    /**
+     * Read an ISO-8601 string or milliseconds since the epoch, in UTC as the Joda module does.
+     */
+    public static DateTime readDateTime(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return new DateTime(parser.getLongValue(), DateTimeZone.UTC);
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return text.isEmpty() ? null : new DateTime(text, DateTimeZone.UTC);
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException("Not a valid date: " + text, parser.getCurrentLocation(), e);
+            }
+        }
+        throw unexpected(parser, "date");
+    }
+
+    public static void writeDateTime(DateTime value, JsonGenerator generator) throws IOException {
+        generator.writeString(DATE_TIME.print(value));
+    }
+
+    /**
+     * An invalid value at the current location of the parser.
+     */
+    public static JsonParseException invalid(JsonParser parser, String message, Throwable cause) {
+        return new JsonParseException(message, parser.getCurrentLocation(), cause);
+    }
+
+    private static JsonParseException unexpected(JsonParser parser, String expected) {
+        return new JsonParseException("Expected " + expected + " but was " + parser.getCurrentToken(),
+                parser.getCurrentLocation());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Streaming serializer and deserializer of a single type, generated for the classes annotated with
+ * {@link GenerateCodec}. Implementations are stateless and thread safe.
+ */
+public interface TypeCodec<T> {
+
+    /**
+     * Decode the value starting at the current token of the parser, an object or null. The parser is left on the
+     * last token of the value.
+     */
+    public T read(JsonParser parser) throws IOException;
+
+    /**
+     * Encode a non null value.
+     */
+    public void write(T value, JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,710 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.codec.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a <code>TypeCodec</code> for each class annotated with <code>GenerateCodec</code> and for the bean
+ * types reachable from its properties. The processor is compiled on its own before the rest of the sources, see
+ * the compiler plugin executions in the pom, so it only refers to the annotation and the runtime classes by name.
+ * <p>
+ * Supported property types are primitives and their wrappers, String, enums (with <code>@JsonValue</code> and
+ * <code>@JsonCreator</code>), Joda DateTime, collections, maps with String keys and other beans.
+ */
+@SupportedAnnotationTypes(CodecProcessor.ANNOTATION)
+public class CodecProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.github.kubernetes.java.client.codec.GenerateCodec";
+    static final String SUFFIX = "_Codec";
+
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_VALUE = "com.fasterxml.jackson.annotation.JsonValue";
+    private static final String JSON_CREATOR = "com.fasterxml.jackson.annotation.JsonCreator";
+    private static final String DATE_TIME = "org.joda.time.DateTime";
+
+    /** Types already generated, in this or a previous round */
+    private final Set<String> generated = new HashSet<String>();
+
+    private Elements elements;
+    private Types types;
+
+    /**
+     * A JSON property of a bean, with the accessors used to write and read it.
+     */
+    private static class Property {
+        final String name;
+        ExecutableElement getter;
+        TypeMirror getterType;
+        ExecutableElement setter;
+        TypeMirror setterType;
+        /** the field of the same name, that Jackson sets when there is a getter but no setter */
+        VariableElement field;
+        boolean ignored;
+        boolean explicit;
+
+        Property(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * A type that can't be mapped, reported as a compilation error on the element.
+     */
+    private static class CodecException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        final Element element;
+
+        CodecException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Deque<TypeElement> pending = new ArrayDeque<TypeElement>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                pending.add((TypeElement) element);
+            }
+        }
+        while (!pending.isEmpty()) {
+            TypeElement type = pending.poll();
+            if (!generated.add(type.getQualifiedName().toString())) {
+                continue;
+            }
+            try {
+                generate(type, pending);
+            } catch (CodecException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to write the codec of " + type + ": " + e, type);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, Deque<TypeElement> pending) throws IOException {
+        if (type.getKind() != ElementKind.CLASS || !type.getModifiers().contains(Modifier.PUBLIC)
+                || type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()
+                || !hasDefaultConstructor(type)) {
+            throw new CodecException(type, "Codecs can only be generated for public, concrete, non generic classes"
+                    + " with a public no-arg constructor: " + type);
+        }
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String codecName = codecName(type);
+        String typeName = type.getQualifiedName().toString();
+        List<Property> properties = properties(type);
+
+        Code code = new Code();
+        code.line("// Generated by " + getClass().getSimpleName() + " from " + typeName + ", do not edit.");
+        if (!packageName.isEmpty()) {
+            code.line("package " + packageName + ";");
+        }
+        code.line("");
+        code.line("import java.io.IOException;");
+        code.line("");
+        code.line("import com.fasterxml.jackson.core.JsonGenerator;");
+        code.line("import com.fasterxml.jackson.core.JsonParser;");
+        code.line("import com.fasterxml.jackson.core.JsonToken;");
+        code.line("import com.github.kubernetes.java.client.codec.StreamingSupport;");
+        code.line("import com.github.kubernetes.java.client.codec.TypeCodec;");
+        code.line("");
+        code.line("public final class " + codecName + " implements TypeCodec<" + typeName + "> {");
+        code.line("");
+        code.line("public static final " + codecName + " INSTANCE = new " + codecName + "();");
+        code.line("");
+
+        code.line("public " + typeName + " read(JsonParser parser) throws IOException {");
+        code.line("if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {");
+        code.line("return null;");
+        code.line("}");
+        code.line("StreamingSupport.expect(parser, JsonToken.START_OBJECT);");
+        code.line(typeName + " value = new " + typeName + "();");
+        code.line("while (parser.nextToken() == JsonToken.FIELD_NAME) {");
+        code.line("String field = parser.getCurrentName();");
+        code.line("parser.nextToken();");
+        code.line("switch (field) {");
+        for (Property property : properties) {
+            if (property.setterType == null) {
+                continue;
+            }
+            String var = code.var();
+            code.line("case " + literal(property.name) + ": {");
+            code.line(property.setterType + " " + var + ";");
+            if (property.setter != null) {
+                read(code, property.setterType, var, property.setter, pending);
+                code.line("value." + property.setter.getSimpleName() + "(" + var + ");");
+            } else {
+                read(code, property.setterType, var, property.field, pending);
+                code.line("value." + property.field.getSimpleName() + " = " + var + ";");
+            }
+            code.line("break;");
+            code.line("}");
+        }
+        code.line("default: {");
+        code.line("parser.skipChildren();");
+        code.line("}");
+        code.line("}");
+        code.line("}");
+        code.line("return value;");
+        code.line("}");
+        code.line("");
+
+        code.line("public void write(" + typeName + " value, JsonGenerator generator) throws IOException {");
+        code.line("generator.writeStartObject();");
+        for (Property property : properties) {
+            if (property.getter == null) {
+                continue;
+            }
+            String getter = "value." + property.getter.getSimpleName() + "()";
+            if (property.getterType.getKind().isPrimitive()) {
+                code.line("generator.writeFieldName(" + literal(property.name) + ");");
+                write(code, property.getterType, getter, property.getter, pending);
+            } else {
+                // null properties are omitted, as with Include.NON_NULL
+                String var = code.var();
+                code.line(property.getterType + " " + var + " = " + getter + ";");
+                code.line("if (" + var + " != null) {");
+                code.line("generator.writeFieldName(" + literal(property.name) + ");");
+                write(code, property.getterType, var, property.getter, pending);
+                code.line("}");
+            }
+        }
+        code.line("generator.writeEndObject();");
+        code.line("}");
+        code.line("}");
+
+        String qualifiedName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+        Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter();
+        try {
+            writer.write(code.toString());
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Emit the statements assigning the value at the current token of <code>parser</code> to <code>target</code>.
+     */
+    private void read(Code code, TypeMirror type, String target, Element site, Deque<TypeElement> pending) {
+        switch (type.getKind()) {
+        case BOOLEAN:
+            code.line(target + " = StreamingSupport.readBoolean(parser);");
+            return;
+        case INT:
+            code.line(target + " = StreamingSupport.readInt(parser);");
+            return;
+        case SHORT:
+        case BYTE:
+            code.line(target + " = (" + type + ") StreamingSupport.readInt(parser);");
+            return;
+        case LONG:
+            code.line(target + " = StreamingSupport.readLong(parser);");
+            return;
+        case DOUBLE:
+            code.line(target + " = StreamingSupport.readDouble(parser);");
+            return;
+        case FLOAT:
+            code.line(target + " = (float) StreamingSupport.readDouble(parser);");
+            return;
+        case DECLARED:
+            break;
+        default:
+            throw unsupported(site, type);
+        }
+        DeclaredType declared = (DeclaredType) type;
+        TypeElement element = (TypeElement) declared.asElement();
+        String name = element.getQualifiedName().toString();
+        if (name.equals("java.lang.String")) {
+            code.line(target + " = StreamingSupport.readString(parser);");
+        } else if (name.equals(DATE_TIME)) {
+            code.line(target + " = StreamingSupport.readDateTime(parser);");
+        } else if (isBoxed(declared)) {
+            TypeMirror primitive = types.unboxedType(declared);
+            String var = code.var();
+            code.line(primitive + " " + var + ";");
+            code.line("if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {");
+            code.line(target + " = null;");
+            code.line("} else {");
+            read(code, primitive, var, site, pending);
+            code.line(target + " = " + var + ";");
+            code.line("}");
+        } else if (element.getKind() == ElementKind.ENUM) {
+            ExecutableElement creator = creator(element);
+            String text = code.var();
+            String e = code.var();
+            code.line("String " + text + " = StreamingSupport.readString(parser);");
+            code.line("try {");
+            code.line(target + " = " + text + " == null ? null : " + name + "."
+                    + (creator != null ? creator.getSimpleName() : "valueOf") + "(" + text + ");");
+            code.line("} catch (IllegalArgumentException " + e + ") {");
+            code.line("throw StreamingSupport.invalid(parser, \"Not a valid " + element.getSimpleName() + ": \" + "
+                    + text + ", " + e + ");");
+            code.line("}");
+        } else if (isCollection(declared)) {
+            TypeMirror item = typeArgument(declared, 0, site);
+            String collection = code.var();
+            String var = code.var();
+            String implementation = implementation(element, "java.util.ArrayList", "java.util.HashSet",
+                    "java.util.TreeSet") + "<" + item + ">";
+            code.line("if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {");
+            code.line(target + " = null;");
+            code.line("} else {");
+            code.line("StreamingSupport.expect(parser, JsonToken.START_ARRAY);");
+            code.line(implementation + " " + collection + " = new " + implementation + "();");
+            code.line("while (parser.nextToken() != JsonToken.END_ARRAY) {");
+            code.line(item + " " + var + ";");
+            read(code, item, var, site, pending);
+            code.line(collection + ".add(" + var + ");");
+            code.line("}");
+            code.line(target + " = " + collection + ";");
+            code.line("}");
+        } else if (isMap(declared)) {
+            TypeMirror value = mapValue(declared, site);
+            String map = code.var();
+            String key = code.var();
+            String var = code.var();
+            String implementation = implementation(element, "java.util.LinkedHashMap", null, "java.util.TreeMap")
+                    + "<String, " + value + ">";
+            code.line("if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {");
+            code.line(target + " = null;");
+            code.line("} else {");
+            code.line("StreamingSupport.expect(parser, JsonToken.START_OBJECT);");
+            code.line(implementation + " " + map + " = new " + implementation + "();");
+            code.line("while (parser.nextToken() == JsonToken.FIELD_NAME) {");
+            code.line("String " + key + " = parser.getCurrentName();");
+            code.line("parser.nextToken();");
+            code.line(value + " " + var + ";");
+            read(code, value, var, site, pending);
+            code.line(map + ".put(" + key + ", " + var + ");");
+            code.line("}");
+            code.line(target + " = " + map + ";");
+            code.line("}");
+        } else {
+            code.line(target + " = " + bean(element, site, pending) + ".INSTANCE.read(parser);");
+        }
+    }
+
+    /**
+     * Emit the statements writing the non null <code>value</code> expression.
+     */
+    private void write(Code code, TypeMirror type, String value, Element site, Deque<TypeElement> pending) {
+        switch (type.getKind()) {
+        case BOOLEAN:
+            code.line("generator.writeBoolean(" + value + ");");
+            return;
+        case INT:
+        case SHORT:
+        case BYTE:
+        case LONG:
+        case DOUBLE:
+        case FLOAT:
+            code.line("generator.writeNumber(" + value + ");");
+            return;
+        case DECLARED:
+            break;
+        default:
+            throw unsupported(site, type);
+        }
+        DeclaredType declared = (DeclaredType) type;
+        TypeElement element = (TypeElement) declared.asElement();
+        String name = element.getQualifiedName().toString();
+        if (name.equals("java.lang.String")) {
+            code.line("generator.writeString(" + value + ");");
+        } else if (name.equals(DATE_TIME)) {
+            code.line("StreamingSupport.writeDateTime(" + value + ", generator);");
+        } else if (isBoxed(declared)) {
+            write(code, types.unboxedType(declared), value, site, pending);
+        } else if (element.getKind() == ElementKind.ENUM) {
+            ExecutableElement jsonValue = jsonValue(element);
+            code.line("generator.writeString(" + value + "."
+                    + (jsonValue != null ? jsonValue.getSimpleName() : "name") + "());");
+        } else if (isCollection(declared)) {
+            TypeMirror item = typeArgument(declared, 0, site);
+            String var = code.var();
+            code.line("generator.writeStartArray();");
+            code.line("for (" + item + " " + var + " : " + value + ") {");
+            code.line("if (" + var + " == null) {");
+            code.line("generator.writeNull();");
+            code.line("} else {");
+            write(code, item, var, site, pending);
+            code.line("}");
+            code.line("}");
+            code.line("generator.writeEndArray();");
+        } else if (isMap(declared)) {
+            TypeMirror mapValue = mapValue(declared, site);
+            String entry = code.var();
+            String var = code.var();
+            code.line("generator.writeStartObject();");
+            code.line("for (java.util.Map.Entry<String, " + mapValue + "> " + entry + " : " + value
+                    + ".entrySet()) {");
+            code.line("generator.writeFieldName(" + entry + ".getKey());");
+            code.line(mapValue + " " + var + " = " + entry + ".getValue();");
+            code.line("if (" + var + " == null) {");
+            code.line("generator.writeNull();");
+            code.line("} else {");
+            write(code, mapValue, var, site, pending);
+            code.line("}");
+            code.line("}");
+            code.line("generator.writeEndObject();");
+        } else {
+            code.line(bean(element, site, pending) + ".INSTANCE.write(" + value + ", generator);");
+        }
+    }
+
+    /**
+     * Queue the generation of a referenced bean and return the name of its codec.
+     */
+    private String bean(TypeElement element, Element site, Deque<TypeElement> pending) {
+        if (element.getQualifiedName().toString().startsWith("java.")) {
+            throw unsupported(site, element.asType());
+        }
+        if (!generated.contains(element.getQualifiedName().toString())) {
+            pending.add(element);
+        }
+        String packageName = elements.getPackageOf(element).getQualifiedName().toString();
+        return packageName.isEmpty() ? codecName(element) : packageName + "." + codecName(element);
+    }
+
+    /**
+     * The JSON properties of a bean as Jackson would find them: public getters and setters, in the order of the
+     * fields, superclasses first.
+     */
+    private List<Property> properties(TypeElement type) {
+        DeclaredType declared = (DeclaredType) type.asType();
+        List<TypeElement> hierarchy = new ArrayList<TypeElement>();
+        for (TypeElement t = type; !t.getQualifiedName().contentEquals("java.lang.Object"); t = superclass(t)) {
+            hierarchy.add(0, t);
+        }
+
+        Map<String, Property> properties = new LinkedHashMap<String, Property>();
+        for (TypeElement t : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    Property property = property(properties, field.getSimpleName().toString());
+                    property.ignored |= annotation(field, JSON_IGNORE) != null;
+                    property.field = field;
+                }
+            }
+        }
+        for (TypeElement t : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String name = method.getSimpleName().toString();
+                String base;
+                boolean getter = method.getParameters().isEmpty();
+                if (getter && method.getReturnType().getKind() != TypeKind.VOID && name.startsWith("get")) {
+                    base = name.substring(3);
+                } else if (getter && method.getReturnType().getKind() == TypeKind.BOOLEAN && name.startsWith("is")) {
+                    base = name.substring(2);
+                } else if (!getter && method.getParameters().size() == 1 && name.startsWith("set")) {
+                    base = name.substring(3);
+                } else {
+                    continue;
+                }
+                if (base.isEmpty()) {
+                    continue;
+                }
+                AnnotationMirror rename = annotation(method, JSON_PROPERTY);
+                String renamed = rename == null ? null : (String) value(rename, "value");
+                Property property = property(properties, renamed == null || renamed.isEmpty() ? mangle(base)
+                        : renamed);
+                if (annotation(method, JSON_IGNORE) != null) {
+                    property.ignored = true;
+                    continue;
+                }
+                property.explicit |= rename != null;
+                ExecutableType resolved = (ExecutableType) types.asMemberOf(declared, method);
+                if (getter) {
+                    property.getter = method;
+                    property.getterType = resolved.getReturnType();
+                } else {
+                    if (property.setter != null && property.setter.getEnclosingElement().equals(t)) {
+                        throw new CodecException(method, "Conflicting setters for property " + property.name);
+                    }
+                    property.setter = method;
+                    property.setterType = resolved.getParameterTypes().get(0);
+                }
+            }
+        }
+
+        List<Property> result = new ArrayList<Property>();
+        for (Property property : properties.values()) {
+            // an ignored accessor drops the property unless another one is explicitly annotated
+            if ((property.getter != null || property.setter != null) && (!property.ignored || property.explicit)) {
+                if (property.setter == null && property.getter != null && property.field != null) {
+                    // Jackson reads a property with only a getter into the field of the same name
+                    if (property.field.getModifiers().contains(Modifier.PRIVATE)
+                            || property.field.getModifiers().contains(Modifier.FINAL)) {
+                        throw new CodecException(property.field, "Property " + property.name
+                                + " has a getter but no setter and its field can't be assigned by the codec,"
+                                + " add a setter");
+                    }
+                    property.setterType = types.asMemberOf(declared, property.field);
+                }
+                result.add(property);
+            }
+        }
+        return result;
+    }
+
+    private static Property property(Map<String, Property> properties, String name) {
+        Property property = properties.get(name);
+        if (property == null) {
+            property = new Property(name);
+            properties.put(name, property);
+        }
+        return property;
+    }
+
+    /**
+     * Jackson's default property naming, lower casing the leading upper case characters: getHostIP is hostIP and
+     * getURL is url.
+     */
+    static String mangle(String base) {
+        StringBuilder name = new StringBuilder(base);
+        for (int i = 0; i < name.length(); i++) {
+            char upper = name.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            name.setCharAt(i, lower);
+        }
+        return name.toString();
+    }
+
+    private String codecName(TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        return (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+    }
+
+    private static boolean hasDefaultConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isBoxed(DeclaredType type) {
+        try {
+            types.unboxedType(type);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean isCollection(DeclaredType type) {
+        return isSubtype(type, "java.util.Collection");
+    }
+
+    private boolean isMap(DeclaredType type) {
+        return isSubtype(type, "java.util.Map");
+    }
+
+    private boolean isSubtype(DeclaredType type, String name) {
+        return types.isSubtype(types.erasure(type), types.erasure(elements.getTypeElement(name).asType()));
+    }
+
+    /**
+     * The class to instantiate for a collection or map property, the declared one if it is concrete.
+     */
+    private static String implementation(TypeElement element, String list, String set, String sorted) {
+        if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+            return element.getQualifiedName().toString();
+        }
+        String name = element.getQualifiedName().toString();
+        if (name.equals("java.util.SortedSet") || name.equals("java.util.NavigableSet")
+                || name.equals("java.util.SortedMap") || name.equals("java.util.NavigableMap")) {
+            return sorted;
+        }
+        if (name.equals("java.util.Set")) {
+            return set;
+        }
+        return list;
+    }
+
+    private TypeMirror typeArgument(DeclaredType type, int index, Element site) {
+        List<? extends TypeMirror> arguments = type.getTypeArguments();
+        if (arguments.size() <= index) {
+            throw unsupported(site, type);
+        }
+        TypeMirror argument = arguments.get(index);
+        if (argument.getKind() == TypeKind.WILDCARD) {
+            argument = ((WildcardType) argument).getExtendsBound();
+        }
+        if (argument == null || argument.getKind() != TypeKind.DECLARED) {
+            throw unsupported(site, type);
+        }
+        return argument;
+    }
+
+    private TypeMirror mapValue(DeclaredType type, Element site) {
+        TypeMirror key = typeArgument(type, 0, site);
+        if (!((TypeElement) ((DeclaredType) key).asElement()).getQualifiedName().contentEquals("java.lang.String")) {
+            throw new CodecException(site, "Only maps with String keys are supported: " + type);
+        }
+        return typeArgument(type, 1, site);
+    }
+
+    private static ExecutableElement jsonValue(TypeElement type) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (annotation(method, JSON_VALUE) != null && method.getParameters().isEmpty()) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static ExecutableElement creator(TypeElement type) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (annotation(method, JSON_CREATOR) != null && method.getModifiers().contains(Modifier.STATIC)
+                    && method.getParameters().size() == 1) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static AnnotationMirror annotation(Element element, String name) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static Object value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+                .entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private String literal(String value) {
+        return elements.getConstantExpression(value);
+    }
+
+    private static CodecException unsupported(Element site, TypeMirror type) {
+        return new CodecException(site, "Unsupported type for a generated codec: " + type);
+    }
+
+    /**
+     * Source being generated, indenting the blocks.
+     */
+    private static class Code {
+        private final StringBuilder source = new StringBuilder();
+        private int indent;
+        private int vars;
+
+        void line(String line) {
+            if (line.startsWith("}")) {
+                indent--;
+            }
+            if (!line.isEmpty()) {
+                for (int i = 0; i < indent; i++) {
+                    source.append("    ");
+                }
+            }
+            source.append(line).append('\n');
+            if (line.endsWith("{")) {
+                indent++;
+            }
+        }
+
+        /**
+         * A new local variable name.
+         */
+        String var() {
+            return "v" + vars++;
+        }
+
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+}
@@ -21,6 +21,7 @@
 package com.github.kubernetes.java.client.exceptions;
 
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
 
 public class KubernetesClientException extends RuntimeException {
 
@@ -41,10 +42,18 @@ public class KubernetesClientException extends RuntimeException {
         super(msg);
     }
 
+    public KubernetesClientException(Status status) {
+        super(status.getMessage());
+        this.setStatus(status);
+    }
+
     private static Status getResponse(Throwable exception) {
         if (exception instanceof WebApplicationException) {
-            WebApplicationException error = (WebApplicationException) exception;
-            return error.getResponse().readEntity(Status.class);
+            Response response = ((WebApplicationException) exception).getResponse();
+            if (response.getEntity() instanceof Status) {
+                return (Status) response.getEntity();
+            }
+            return response.readEntity(Status.class);
         }
         return null;
     }
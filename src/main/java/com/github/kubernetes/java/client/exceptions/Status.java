@@ -1,9 +1,11 @@
 package com.github.kubernetes.java.client.exceptions;
 
+import com.github.kubernetes.java.client.codec.GenerateCodec;
 import com.github.kubernetes.java.client.model.AbstractKubernetesModel;
 import com.github.kubernetes.java.client.model.Kind;
 import com.google.common.base.MoreObjects;
 
+@GenerateCodec
 public class Status extends AbstractKubernetesModel {
 
     private String status, message, reason;
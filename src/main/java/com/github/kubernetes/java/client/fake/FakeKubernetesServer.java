@@ -0,0 +1,551 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.fake;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.joda.time.DateTime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.interfaces.KubernetesAPIClientInterface;
+import com.github.kubernetes.java.client.model.AbstractKubernetesModel;
+import com.github.kubernetes.java.client.model.AbstractKubernetesModelList;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
+import com.github.kubernetes.java.client.v2.FieldSelector;
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+import com.github.kubernetes.java.client.v2.LabelSelector;
+import com.google.common.base.Splitter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In memory Kubernetes API server, serving the endpoints of {@link com.github.kubernetes.java.client.v2.KubernetesAPI}
+ * over HTTP for tests and benchmarks that need no cluster: get, list, paged list, label and field queries, create and
+ * delete of pods, replication controllers and services, and replication controller updates. All the resources support
+ * the <code>name</code> field, pods also <code>DesiredState.Host</code>, <code>CurrentState.Host</code> and
+ * <code>CurrentState.Status</code>.
+ * <p>
+ * Objects are kept in concurrent maps. Created and updated objects get a new <code>resourceVersion</code> from a
+ * counter shared by all the resources, and created ones a <code>uid</code> and <code>creationTimestamp</code>.
+ * Deletes also move the counter, so lists get a new <code>resourceVersion</code> whenever their content changes.
+ * Latency and failures can be injected to see how clients behave against a slow or unreliable server.
+ * <p>
+ * For throughput measurements run with <code>-Dsun.net.httpserver.nodelay=true</code>, otherwise the JDK server
+ * leaves Nagle's algorithm on and small responses wait for delayed ACKs.
+ * 
+ * <pre>
+ * FakeKubernetesServer server = new FakeKubernetesServer().start();
+ * KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), &quot;user&quot;, &quot;password&quot;);
+ * </pre>
+ */
+public class FakeKubernetesServer implements Closeable {
+
+    private final ObjectMapper mapper;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final AtomicInteger resourceVersion = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+
+    private final Resource<Pod, PodList> pods;
+    private final Resource<ReplicationController, ReplicationControllerList> replicationControllers;
+    private final Resource<Service, ServiceList> services;
+
+    private volatile long minLatencyNanos;
+    private volatile long maxLatencyNanos;
+    private volatile double errorRate;
+    private volatile int errorCode = 500;
+    private volatile boolean gzip;
+    private volatile boolean etags;
+    private volatile boolean paging = true;
+    private final AtomicLong compressedResponses = new AtomicLong();
+
+    public FakeKubernetesServer() throws IOException {
+        this(0);
+    }
+
+    /**
+     * @param port
+     *            port to listen on, 0 for any free one
+     */
+    public FakeKubernetesServer(int port) throws IOException {
+        mapper = JacksonConfig.getDefault().getObjectMapper();
+        pods = new Resource<Pod, PodList>("pods", Pod.class, PodList::new, Pod::getLabels,
+                FakeKubernetesServer::podFields);
+        replicationControllers = new Resource<ReplicationController, ReplicationControllerList>(
+                "replicationControllers", ReplicationController.class, ReplicationControllerList::new,
+                ReplicationController::getLabels, FakeKubernetesServer::fields);
+        services = new Resource<Service, ServiceList>("services", Service.class, ServiceList::new,
+                Service::getLabels, FakeKubernetesServer::fields);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        for (Resource<?, ?> resource : new Resource<?, ?>[] { pods, replicationControllers, services }) {
+            server.createContext(resource.path, resource);
+        }
+    }
+
+    public FakeKubernetesServer start() {
+        server.start();
+        return this;
+    }
+
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Endpoint to give to the client, which adds the API version.
+     */
+    public String getEndpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Delay each response by a random time between min and max.
+     */
+    public FakeKubernetesServer latency(long min, long max, TimeUnit unit) {
+        this.minLatencyNanos = unit.toNanos(min);
+        this.maxLatencyNanos = Math.max(unit.toNanos(max), minLatencyNanos);
+        return this;
+    }
+
+    /**
+     * Fail the given fraction of requests, chosen at random, with the given HTTP status code.
+     */
+    public FakeKubernetesServer errors(double rate, int code) {
+        this.errorRate = rate;
+        this.errorCode = code;
+        return this;
+    }
+
+    /**
+     * Gzip the responses to requests that accept it.
+     */
+    public FakeKubernetesServer gzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    /**
+     * Send the <code>resourceVersion</code> of objects and lists as <code>ETag</code> and answer
+     * <code>If-None-Match</code> requests for an unchanged one with <code>304 Not Modified</code>.
+     */
+    public FakeKubernetesServer etags(boolean etags) {
+        this.etags = etags;
+        return this;
+    }
+
+    /**
+     * Answer list requests with a <code>limit</code> with a page of at most that many items and a
+     * <code>continue</code> token for the next one, enabled by default. When disabled the parameters are ignored
+     * and the whole list is sent, as older servers do.
+     */
+    public FakeKubernetesServer paging(boolean paging) {
+        this.paging = paging;
+        return this;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Responses sent gzipped.
+     */
+    public long getCompressedResponseCount() {
+        return compressedResponses.get();
+    }
+
+    public int getResourceVersion() {
+        return resourceVersion.get();
+    }
+
+    /* Direct access to the stored objects, eg. to load a large number of them before a test */
+
+    public Pod addPod(Pod pod) {
+        return pods.create(pod);
+    }
+
+    public Pod getPod(String id) {
+        return pods.items.get(id);
+    }
+
+    public Collection<Pod> getPods() {
+        return pods.items.values();
+    }
+
+    public ReplicationController addReplicationController(ReplicationController controller) {
+        return replicationControllers.create(controller);
+    }
+
+    public ReplicationController getReplicationController(String id) {
+        return replicationControllers.items.get(id);
+    }
+
+    public Collection<ReplicationController> getReplicationControllers() {
+        return replicationControllers.items.values();
+    }
+
+    public Service addService(Service service) {
+        return services.create(service);
+    }
+
+    public Service getService(String id) {
+        return services.items.get(id);
+    }
+
+    public Collection<Service> getServices() {
+        return services.items.values();
+    }
+
+    /**
+     * Remove all the stored objects.
+     */
+    public void clear() {
+        pods.items.clear();
+        replicationControllers.items.clear();
+        services.items.clear();
+    }
+
+    private static Status status(String status, String reason, String message, int code) {
+        Status s = new Status();
+        s.setStatus(status);
+        s.setReason(reason);
+        s.setMessage(message);
+        s.setCode(code);
+        return s;
+    }
+
+    /**
+     * Handles the collection and the items of a kind of object.
+     */
+    private class Resource<T extends AbstractKubernetesModel, L extends AbstractKubernetesModelList<T>> implements
+            HttpHandler {
+
+        private final String name;
+        private final String path;
+        private final Class<T> type;
+        private final Supplier<L> listFactory;
+        private final Function<T, Map<String, String>> labels;
+        private final Function<T, Map<String, String>> fields;
+        private final ConcurrentNavigableMap<String, T> items = new ConcurrentSkipListMap<String, T>();
+
+        Resource(String name, Class<T> type, Supplier<L> listFactory, Function<T, Map<String, String>> labels,
+                Function<T, Map<String, String>> fields) {
+            this.name = name;
+            this.path = "/api/" + KubernetesAPIClientInterface.VERSION + "/" + name;
+            this.type = type;
+            this.listFactory = listFactory;
+            this.labels = labels;
+            this.fields = fields;
+        }
+
+        T create(T item) {
+            if (item.getId() == null) {
+                item.setId(UUID.randomUUID().toString());
+            }
+            item.setUid(UUID.randomUUID().toString());
+            item.setCreationTimestamp(new DateTime());
+            item.setSelfLink(path + "/" + item.getId());
+            item.setResourceVersion(resourceVersion.incrementAndGet());
+            return items.putIfAbsent(item.getId(), item) == null ? item : null;
+        }
+
+        T update(String id, final T item) {
+            item.setId(id);
+            return items.computeIfPresent(id, (key, existing) -> {
+                item.setUid(existing.getUid());
+                item.setCreationTimestamp(existing.getCreationTimestamp());
+                item.setSelfLink(existing.getSelfLink());
+                item.setResourceVersion(resourceVersion.incrementAndGet());
+                return item;
+            });
+        }
+
+        /**
+         * @param limit
+         *            the maximum number of items, 0 for all
+         * @param continueToken
+         *            the id of the last item of the previous page, null for the first page
+         */
+        L list(Predicate<Map<String, String>> labelSelector, FieldSelector fieldSelector, int limit,
+                String continueToken) {
+            L list = listFactory.get();
+            list.setResourceVersion(resourceVersion.get());
+            Collection<T> values = continueToken == null ? items.values() : items.tailMap(continueToken, false)
+                    .values();
+            for (T item : values) {
+                if (labelSelector.test(labels.apply(item)) && fieldSelector.matches(fields.apply(item))) {
+                    if (limit > 0 && list.size() == limit) {
+                        // there is at least one more
+                        list.setContinue(list.get(limit - 1).getId());
+                        break;
+                    }
+                    list.getItems().add(item);
+                }
+            }
+            return list;
+        }
+
+        public void handle(HttpExchange exchange) throws IOException {
+            requests.incrementAndGet();
+            try {
+                delay();
+                if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                    send(exchange, errorCode, status("Failure", "InternalError", "Injected failure", errorCode));
+                    return;
+                }
+                String id = exchange.getRequestURI().getPath().substring(path.length());
+                id = id.startsWith("/") ? URLDecoder.decode(id.substring(1), "UTF-8") : "";
+                String method = exchange.getRequestMethod();
+                if (id.isEmpty()) {
+                    handleCollection(exchange, method);
+                } else {
+                    handleItem(exchange, method, id);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        }
+
+        private void handleCollection(HttpExchange exchange, String method) throws IOException {
+            if ("GET".equals(method)) {
+                String query = exchange.getRequestURI().getRawQuery();
+                L list;
+                try {
+                    String limit = paging ? param(query, "limit") : null;
+                    list = list(labelSelector(param(query, "labels")), FieldSelector.parse(param(query, "fields")),
+                            limit == null ? 0 : Integer.parseInt(limit), paging ? param(query, "continue") : null);
+                } catch (IllegalArgumentException e) {
+                    send(exchange, 400, status("Failure", "BadRequest", e.getMessage(), 400));
+                    return;
+                }
+                if (!notModified(exchange, list.getResourceVersion())) {
+                    send(exchange, 200, list);
+                }
+            } else if ("POST".equals(method)) {
+                T item = read(exchange);
+                if (item == null) {
+                    return;
+                }
+                if (item.getId() != null && items.containsKey(item.getId())) {
+                    send(exchange, 409, status("Failure", "AlreadyExists", name + " \"" + item.getId()
+                            + "\" already exists", 409));
+                    return;
+                }
+                T created = create(item);
+                if (created == null) {
+                    send(exchange, 409, status("Failure", "AlreadyExists", name + " \"" + item.getId()
+                            + "\" already exists", 409));
+                } else {
+                    send(exchange, 201, created);
+                }
+            } else {
+                send(exchange, 405, status("Failure", "MethodNotAllowed", method + " not allowed", 405));
+            }
+        }
+
+        private void handleItem(HttpExchange exchange, String method, String id) throws IOException {
+            Object result;
+            if ("GET".equals(method)) {
+                T item = items.get(id);
+                if (item != null && notModified(exchange, item.getResourceVersion())) {
+                    return;
+                }
+                result = item;
+            } else if ("DELETE".equals(method)) {
+                if (items.remove(id) == null) {
+                    result = null;
+                } else {
+                    resourceVersion.incrementAndGet();
+                    result = status("Success", null, null, 200);
+                }
+            } else if ("PUT".equals(method)) {
+                T item = read(exchange);
+                if (item == null) {
+                    return;
+                }
+                result = update(id, item);
+            } else {
+                send(exchange, 405, status("Failure", "MethodNotAllowed", method + " not allowed", 405));
+                return;
+            }
+            if (result == null) {
+                send(exchange, 404, status("Failure", "NotFound", name + " \"" + id + "\" not found", 404));
+            } else {
+                send(exchange, 200, result);
+            }
+        }
+
+        private T read(HttpExchange exchange) throws IOException {
+            InputStream in = exchange.getRequestBody();
+            try {
+                return mapper.readValue(in, type);
+            } catch (IOException e) {
+                send(exchange, 400, status("Failure", "BadRequest", e.getMessage(), 400));
+                return null;
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * With ETags enabled, add the ETag of a GET response and send a 304 if the client already has it.
+     * 
+     * @return whether the 304 was sent
+     */
+    private boolean notModified(HttpExchange exchange, int version) throws IOException {
+        if (!etags) {
+            return false;
+        }
+        String etag = "\"" + version + "\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            // the JDK server drops the connection after a response without body, tell the client
+            exchange.getResponseHeaders().add("Connection", "close");
+            exchange.sendResponseHeaders(304, -1);
+            return true;
+        }
+        return false;
+    }
+
+    private void delay() throws InterruptedException {
+        long min = minLatencyNanos;
+        long max = maxLatencyNanos;
+        if (max > 0) {
+            TimeUnit.NANOSECONDS.sleep(min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1));
+        }
+    }
+
+    private void send(HttpExchange exchange, int code, Object body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        boolean compress = gzip && acceptsGzip(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+        if (compress) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            compressedResponses.incrementAndGet();
+        }
+        // chunked, so large lists are written as they are serialized
+        exchange.sendResponseHeaders(code, 0);
+        OutputStream out = compress ? new GZIPOutputStream(exchange.getResponseBody(), 8192) : exchange
+                .getResponseBody();
+        try {
+            mapper.writeValue(out, body);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            if (encoding.trim().toLowerCase(Locale.ENGLISH).startsWith("gzip")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The decoded value of a query parameter, null if missing.
+     */
+    static String param(String query, String name) throws IOException {
+        if (query == null) {
+            return null;
+        }
+        for (String param : Splitter.on('&').split(query)) {
+            if (param.startsWith(name + "=")) {
+                return URLDecoder.decode(param.substring(name.length() + 1), "UTF-8");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse a label query. Plain <code>key1=value1,key2=value2</code> queries are accepted even if the values are not
+     * valid label values, as sent by {@link KubernetesAPIClientInterface#getSelectedPods(Map)}.
+     */
+    static Predicate<Map<String, String>> labelSelector(String labels) {
+        try {
+            return LabelSelector.parse(labels)::matches;
+        } catch (IllegalArgumentException e) {
+            if (labels.contains("!") || labels.contains("(")) {
+                throw e;
+            }
+            Map<String, String> selector = Splitter.on(',').trimResults().withKeyValueSeparator('=').split(labels);
+            return (itemLabels) -> itemLabels != null && itemLabels.entrySet().containsAll(selector.entrySet());
+        }
+    }
+
+    private static Map<String, String> fields(AbstractKubernetesModel item) {
+        Map<String, String> fields = new HashMap<String, String>();
+        fields.put("name", item.getId());
+        return fields;
+    }
+
+    private static Map<String, String> podFields(Pod pod) {
+        Map<String, String> fields = fields(pod);
+        if (pod.getDesiredState() != null) {
+            fields.put("DesiredState.Host", pod.getDesiredState().getHost());
+        }
+        if (pod.getCurrentState() != null) {
+            fields.put("CurrentState.Host", pod.getCurrentState().getHost());
+            fields.put("CurrentState.Status", pod.getCurrentState().getStatus());
+        }
+        return fields;
+    }
+}
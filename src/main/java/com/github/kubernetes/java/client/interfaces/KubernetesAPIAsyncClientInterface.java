@@ -0,0 +1,161 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.interfaces;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
+
+/**
+ * Non blocking version of {@link KubernetesAPIClientInterface}. Failures complete the returned future
+ * exceptionally with a {@link KubernetesClientException}.
+ */
+public interface KubernetesAPIAsyncClientInterface {
+
+    /* Pod API */
+
+    /**
+     * Get information of a Pod given the PodID
+     * 
+     * @param podId
+     *            id of the pod
+     * @return {@link Pod}, or null if it does not exist
+     */
+    public CompletableFuture<Pod> getPod(String podId);
+
+    /**
+     * Get all Pods
+     * 
+     * @return Pods
+     */
+    public CompletableFuture<PodList> getAllPods();
+
+    /**
+     * Create a new Pod
+     * 
+     * @param pod
+     *            Pod to be created
+     */
+    public CompletableFuture<Pod> createPod(Pod pod);
+
+    /**
+     * Delete a Pod
+     * 
+     * @param podId
+     *            Id of the Pod to be deleted
+     */
+    public CompletableFuture<Status> deletePod(String podId);
+
+    /* Replication Controller API */
+
+    /**
+     * Get a Replication Controller Info
+     * 
+     * @param controllerId
+     *            id of the Replication Controller
+     * @return {@link ReplicationController}, or null if it does not exist
+     */
+    public CompletableFuture<ReplicationController> getReplicationController(String controllerId);
+
+    /**
+     * Get all Replication Controllers.
+     * 
+     * @return {@link ReplicationController}s
+     */
+    public CompletableFuture<ReplicationControllerList> getAllReplicationControllers();
+
+    /**
+     * Create a new Replication Controller
+     * 
+     * @param controller
+     *            controller to be created
+     */
+    public CompletableFuture<ReplicationController> createReplicationController(ReplicationController controller);
+
+    /**
+     * Update a Replication Controller (update the number of replicas).
+     * 
+     * @param controllerId
+     *            id of the controller to be updated
+     * @param replicas
+     *            update the replicas count of the current controller.
+     */
+    public CompletableFuture<ReplicationController> updateReplicationController(String controllerId, int replicas);
+
+    /**
+     * Delete a Replication Controller.
+     * 
+     * @param controllerId
+     *            id of the controller to be deleted.
+     */
+    public CompletableFuture<Status> deleteReplicationController(String controllerId);
+
+    /* Services API */
+
+    /**
+     * Get the Service with the given id.
+     * 
+     * @param serviceId
+     *            id of the service.
+     * @return {@link Service}, or null if it does not exist
+     */
+    public CompletableFuture<Service> getService(String serviceId);
+
+    /**
+     * Get all the services.
+     * 
+     * @return array of {@link Service}s
+     */
+    public CompletableFuture<ServiceList> getAllServices();
+
+    /**
+     * Create a new Kubernetes service.
+     * 
+     * @param service
+     *            service to be created.
+     */
+    public CompletableFuture<Service> createService(Service service);
+
+    /**
+     * Delete a Service.
+     * 
+     * @param serviceId
+     *            service id to be deleted.
+     */
+    public CompletableFuture<Status> deleteService(String serviceId);
+
+    /**
+     * Run a label query and retrieve a sub set of Pods.
+     * 
+     * @param labels
+     *            labels to match
+     * @return Pods selected Pods by executing the label query.
+     */
+    public CompletableFuture<PodList> getSelectedPods(Map<String, String> labels);
+}
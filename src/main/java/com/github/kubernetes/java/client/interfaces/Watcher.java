@@ -0,0 +1,47 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.interfaces;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.model.WatchEvent;
+
+/**
+ * Listener for the events of a watch. Events are delivered one at a time, in order, from the thread reading
+ * the watch stream.
+ */
+public interface Watcher<T> {
+
+    /**
+     * Called for every ADDED, MODIFIED or DELETED event.
+     * 
+     * @param event
+     *            the decoded event
+     */
+    public void eventReceived(WatchEvent<T> event);
+
+    /**
+     * Called once when the watch stops, either because it was closed or the server ended the stream.
+     * 
+     * @param cause
+     *            the error that stopped the watch, or null if it was closed normally
+     */
+    public void onClose(KubernetesClientException cause);
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link MetricsRecorder} keeping {@link OperationMetrics} in memory for each operation. Once an operation has
+ * been seen, recording it does not allocate.
+ */
+public class ClientMetrics implements MetricsRecorder {
+
+    private final ConcurrentMap<String, OperationMetrics> operations =
+            new ConcurrentHashMap<String, OperationMetrics>();
+
+    public void record(String operation, int status, long latencyNanos, long bytesOut, long bytesIn) {
+        OperationMetrics metrics = operations.get(operation);
+        if (metrics == null) {
+            metrics = operations.computeIfAbsent(operation, OperationMetrics::new);
+        }
+        metrics.record(status, latencyNanos, bytesOut, bytesIn);
+    }
+
+    /**
+     * @return the metrics of the operation, or null if it was never called
+     */
+    public OperationMetrics getOperation(String operation) {
+        return operations.get(operation);
+    }
+
+    public Map<String, OperationMetrics> getOperations() {
+        return Collections.unmodifiableMap(operations);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies in nanoseconds, with log-linear buckets in the style of HdrHistogram: each
+ * power of two is split in 32 linear buckets, so values are kept with about 3% precision over the whole range of
+ * a long. Recording is lock and allocation free.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKETS - 1;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = nanos < 0 ? 0 : nanos;
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // retry
+        }
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) | (int) ((value >>> shift) & SUB_BUCKET_MASK);
+    }
+
+    /**
+     * Highest value counted in the bucket.
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        long lowest = ((long) ((index & SUB_BUCKET_MASK) | SUB_BUCKETS)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public double getMean(TimeUnit unit) {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n / unit.toNanos(1);
+    }
+
+    /**
+     * Value below which the given percentage of the recorded values fall, eg. 99.9 for the p999.
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return unit.convert(Math.min(highestValue(i), max.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return getMax(unit);
+    }
+
+    @Override
+    public String toString() {
+        TimeUnit ms = TimeUnit.MICROSECONDS;
+        return "LatencyHistogram [count=" + getCount() + ", p50=" + getValueAtPercentile(50, ms) + "us, p99="
+                + getValueAtPercentile(99, ms) + "us, p999=" + getValueAtPercentile(99.9, ms) + "us, max="
+                + getMax(ms) + "us]";
+    }
+}
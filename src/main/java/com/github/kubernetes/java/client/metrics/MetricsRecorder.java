@@ -0,0 +1,44 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.metrics;
+
+/**
+ * Receives a measurement for every call to the API server, to bridge them to a metrics library. Called on the
+ * thread making the call, so implementations must be thread safe and cheap; {@link ClientMetrics} is a ready to
+ * use in memory implementation.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * @param operation
+     *            name of the {@link com.github.kubernetes.java.client.v2.KubernetesAPI} method called, eg.
+     *            <code>getPod</code>
+     * @param status
+     *            HTTP status of the response, 0 if none was received
+     * @param latencyNanos
+     *            time from the call until the response was decoded
+     * @param bytesOut
+     *            size of the request body
+     * @param bytesIn
+     *            size of the response body
+     */
+    public void record(String operation, int status, long latencyNanos, long bytesOut, long bytesIn);
+}
@@ -0,0 +1,111 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of one API operation: calls, errors by status, bytes sent and received and latency.
+ */
+public class OperationMetrics {
+
+    private static final int MAX_STATUS = 600;
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLongArray statuses = new AtomicLongArray(MAX_STATUS);
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    public void record(int status, long latencyNanos, long bytesOut, long bytesIn) {
+        count.increment();
+        if (status < 200 || status >= 400) {
+            errors.increment();
+        }
+        statuses.incrementAndGet(status >= 0 && status < MAX_STATUS ? status : 0);
+        this.bytesOut.add(bytesOut);
+        this.bytesIn.add(bytesIn);
+        latency.record(latencyNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Calls that failed, with an HTTP status of 400 or more or no response at all.
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Calls answered with the given HTTP status, 0 for calls that got no response.
+     */
+    public long getStatusCount(int status) {
+        return status >= 0 && status < MAX_STATUS ? statuses.get(status) : 0;
+    }
+
+    /**
+     * Call count by HTTP status, 0 for calls that got no response.
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> result = new TreeMap<Integer, Long>();
+        for (int i = 0; i < MAX_STATUS; i++) {
+            long n = statuses.get(i);
+            if (n > 0) {
+                result.put(i, n);
+            }
+        }
+        return result;
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics [name=" + name + ", count=" + getCount() + ", statuses=" + getStatusCounts()
+                + ", bytesOut=" + getBytesOut() + ", bytesIn=" + getBytesIn() + ", latency=" + latency + "]";
+    }
+}
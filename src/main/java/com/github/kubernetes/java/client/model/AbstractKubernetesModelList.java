@@ -9,6 +9,7 @@ import org.apache.commons.lang3.StringUtils;
 public abstract class AbstractKubernetesModelList<T> extends AbstractKubernetesModel implements Iterable<T> {
 
     private List<T> items = new ArrayList<T>();
+    private String continueToken;
 
     protected AbstractKubernetesModelList(Kind kind) {
         super(kind);
@@ -22,6 +23,17 @@ public abstract class AbstractKubernetesModelList<T> extends AbstractKubernetesM
         this.items = items;
     }
 
+    /**
+     * The token to request the next page of a list retrieved with a <code>limit</code>, null if this is the last.
+     */
+    public String getContinue() {
+        return continueToken;
+    }
+
+    public void setContinue(String continueToken) {
+        this.continueToken = continueToken;
+    }
+
     public Iterator<T> iterator() {
         return getItems().iterator();
     }
@@ -22,10 +22,13 @@ package com.github.kubernetes.java.client.model;
 
 import java.util.Map;
 
+import com.github.kubernetes.java.client.codec.GenerateCodec;
+
 /**
  * https://github.com/GoogleCloudPlatform/kubernetes/blob/master/api/examples/
  * pod.json
  */
+@GenerateCodec
 public class Pod extends AbstractKubernetesModel {
 
     private State desiredState;
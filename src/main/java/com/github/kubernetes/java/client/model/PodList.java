@@ -20,6 +20,9 @@
  */
 package com.github.kubernetes.java.client.model;
 
+import com.github.kubernetes.java.client.codec.GenerateCodec;
+
+@GenerateCodec
 public class PodList extends AbstractKubernetesModelList<Pod> {
 
     public PodList() {
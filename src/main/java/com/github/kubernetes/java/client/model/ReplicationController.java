@@ -22,6 +22,9 @@ package com.github.kubernetes.java.client.model;
 
 import java.util.Map;
 
+import com.github.kubernetes.java.client.codec.GenerateCodec;
+
+@GenerateCodec
 public class ReplicationController extends AbstractKubernetesModel {
 
     private Map<String, String> labels;
@@ -52,6 +55,10 @@ public class ReplicationController extends AbstractKubernetesModel {
         return currentState;
     }
 
+    public void setCurrentState(State currentState) {
+        this.currentState = currentState;
+    }
+
     @Override
     public String toString() {
         return "ReplicationController [id=" + getId() + ", selfLink=" + getSelfLink() + ", labels=" + labels
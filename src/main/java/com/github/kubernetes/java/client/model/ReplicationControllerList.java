@@ -20,6 +20,9 @@
  */
 package com.github.kubernetes.java.client.model;
 
+import com.github.kubernetes.java.client.codec.GenerateCodec;
+
+@GenerateCodec
 public class ReplicationControllerList extends AbstractKubernetesModelList<ReplicationController> {
 
     public ReplicationControllerList() {
@@ -0,0 +1,64 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.model;
+
+/**
+ * An event received from a watch on a collection of resources, as returned by
+ * <code>?watch=true</code> requests.
+ */
+public class WatchEvent<T> {
+
+    public enum Type {
+        ADDED, MODIFIED, DELETED, ERROR
+    }
+
+    private Type type;
+    private T object;
+
+    public WatchEvent() {
+    }
+
+    public WatchEvent(Type type, T object) {
+        this.type = type;
+        this.object = object;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public T getObject() {
+        return object;
+    }
+
+    public void setObject(T object) {
+        this.object = object;
+    }
+
+    @Override
+    public String toString() {
+        return "WatchEvent [type=" + type + ", object=" + object + "]";
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.ws.rs.ProcessingException;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpOptions;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.protocol.HttpContext;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient4Engine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+
+/**
+ * RESTEasy {@link ClientHttpEngine} on a non blocking HttpAsyncClient. The caller still waits for its response,
+ * but connections are multiplexed by a few I/O dispatcher threads, so a large number of concurrent calls does not
+ * need one connection thread each. Response bodies are read completely before returning.
+ */
+public class ApacheHttpAsyncClient4Engine implements ClientHttpEngine {
+
+    private final CloseableHttpAsyncClient httpClient;
+    private final Supplier<? extends HttpContext> contextFactory;
+    private final SSLContext sslContext;
+
+    /**
+     * @param contextFactory
+     *            creates the context of each request, contexts are not thread safe
+     */
+    public ApacheHttpAsyncClient4Engine(CloseableHttpAsyncClient httpClient,
+            Supplier<? extends HttpContext> contextFactory, SSLContext sslContext) {
+        this.httpClient = httpClient;
+        this.contextFactory = contextFactory;
+        this.sslContext = sslContext;
+    }
+
+    public CloseableHttpAsyncClient getHttpClient() {
+        return httpClient;
+    }
+
+    public SSLContext getSslContext() {
+        return sslContext;
+    }
+
+    public HostnameVerifier getHostnameVerifier() {
+        return null;
+    }
+
+    public ClientResponse invoke(ClientInvocation request) {
+        HttpRequestBase httpMethod = createHttpMethod(request.getUri(), request.getMethod());
+        if (request.getEntity() != null) {
+            if (!(httpMethod instanceof HttpEntityEnclosingRequestBase)) {
+                throw new ProcessingException("Cannot send a body with " + request.getMethod());
+            }
+            // writing the body can add headers, so it goes first
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try {
+                request.writeRequestBody(body);
+            } catch (IOException e) {
+                throw new ProcessingException("Unable to write request body", e);
+            }
+            ((HttpEntityEnclosingRequestBase) httpMethod).setEntity(new ByteArrayEntity(body.toByteArray()));
+        }
+        for (Map.Entry<String, List<String>> header : request.getHeaders().asMap().entrySet()) {
+            for (String value : header.getValue()) {
+                httpMethod.addHeader(header.getKey(), value);
+            }
+        }
+
+        final HttpResponse response;
+        Future<HttpResponse> future = httpClient.execute(httpMethod, contextFactory.get(), null);
+        try {
+            response = future.get();
+            ContentEncoding.decode(response);
+        } catch (InterruptedException e) {
+            // cancelling releases the connection back to the pool
+            future.cancel(true);
+            httpMethod.abort();
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted invoking request", e);
+        } catch (ExecutionException e) {
+            throw new ProcessingException("Unable to invoke request", e.getCause());
+        } catch (IOException e) {
+            throw new ProcessingException("Unable to decode response", e);
+        }
+
+        ClientResponse clientResponse = new ClientResponse(request.getClientConfiguration()) {
+            private InputStream stream;
+
+            @Override
+            protected InputStream getInputStream() {
+                if (stream == null) {
+                    HttpEntity entity = response.getEntity();
+                    if (entity == null) {
+                        return null;
+                    }
+                    try {
+                        stream = entity.getContent();
+                    } catch (IOException e) {
+                        throw new ProcessingException(e);
+                    }
+                }
+                return stream;
+            }
+
+            @Override
+            protected void setInputStream(InputStream is) {
+                stream = is;
+            }
+
+            @Override
+            protected void releaseConnection() throws IOException {
+                // the body is already buffered and the connection back in the pool
+                if (stream != null) {
+                    stream.close();
+                }
+            }
+        };
+        clientResponse.setProperties(request.getMutableProperties());
+        clientResponse.setStatus(response.getStatusLine().getStatusCode());
+        clientResponse.setHeaders(ApacheHttpClient4Engine.extractHeaders(response));
+        clientResponse.setClientConfiguration(request.getClientConfiguration());
+        return clientResponse;
+    }
+
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
+    protected HttpRequestBase createHttpMethod(URI uri, final String method) {
+        if ("GET".equals(method)) {
+            return new HttpGet(uri);
+        } else if ("POST".equals(method)) {
+            return new HttpPost(uri);
+        } else if ("PUT".equals(method)) {
+            return new HttpPut(uri);
+        } else if ("DELETE".equals(method)) {
+            return new HttpDelete(uri);
+        } else if ("HEAD".equals(method)) {
+            return new HttpHead(uri);
+        } else if ("OPTIONS".equals(method)) {
+            return new HttpOptions(uri);
+        }
+        HttpEntityEnclosingRequestBase request = new HttpEntityEnclosingRequestBase() {
+            @Override
+            public String getMethod() {
+                return method;
+            }
+        };
+        request.setURI(uri);
+        return request;
+    }
+}
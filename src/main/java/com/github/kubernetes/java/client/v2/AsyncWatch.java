@@ -0,0 +1,233 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.methods.AsyncByteConsumer;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.protocol.HttpContext;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.interfaces.Watcher;
+import com.github.kubernetes.java.client.model.WatchEvent;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * {@link Watch} on a non blocking connection. The API server writes one event per line, so events are decoded
+ * on the I/O dispatcher threads as each line completes. No thread is held while waiting for events.
+ * <p>
+ * The {@link Watcher} is called in order, one call at a time, from a shared executor rather than the I/O
+ * dispatcher, so it can block, for instance to list and watch again from {@link Watcher#onClose}. Events are
+ * queued in memory while it is busy.
+ */
+public class AsyncWatch<T> extends Watch<T> {
+
+    private static final Log LOG = LogFactory.getLog(AsyncWatch.class);
+
+    private static final Executor CALLBACKS = VirtualThreads.isAvailable() ? VirtualThreads.newExecutor()
+            : Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("kubernetes-watch-%d")
+                    .setDaemon(true).build());
+
+    private final CloseableHttpAsyncClient client;
+    private final HttpClientContext context;
+    private final CompletableFuture<Void> opened = new CompletableFuture<Void>();
+    private final AtomicBoolean notified = new AtomicBoolean();
+    /** the pending watcher calls, run one at a time */
+    private final Queue<Runnable> callbacks = new ConcurrentLinkedQueue<Runnable>();
+    private final AtomicInteger pending = new AtomicInteger();
+    /** closed by the caller, no more events are delivered */
+    private volatile boolean cancelled;
+
+    private Future<Void> future;
+
+    AsyncWatch(CloseableHttpAsyncClient client, HttpClientContext context, URI uri, ObjectMapper mapper,
+            Class<T> type, Watcher<T> watcher) {
+        super(uri, mapper, type, watcher);
+        this.client = client;
+        this.context = context;
+    }
+
+    /**
+     * Send the request and wait for the response headers.
+     */
+    @Override
+    void open() throws KubernetesClientException {
+        future = client.execute(HttpAsyncMethods.createGet(uri), new EventConsumer(), context,
+                new FutureCallback<Void>() {
+                    public void completed(Void result) {
+                        opened.complete(null);
+                        notifyClose(null);
+                    }
+
+                    public void failed(Exception e) {
+                        KubernetesClientException cause = e instanceof KubernetesClientException
+                                ? (KubernetesClientException) e
+                                : new KubernetesClientException("Error reading watch " + uri, e);
+                        opened.completeExceptionally(cause);
+                        notifyClose(closed ? null : cause);
+                    }
+
+                    public void cancelled() {
+                        opened.cancel(false);
+                        notifyClose(null);
+                    }
+                });
+        try {
+            opened.get();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new KubernetesClientException("Interrupted opening watch " + uri);
+        } catch (ExecutionException e) {
+            throw (KubernetesClientException) e.getCause();
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelled = true;
+        closed = true;
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    private void notifyClose(KubernetesClientException cause) {
+        closed = true;
+        // a watch that failed to open is reported to the caller of open instead
+        if (!opened.isCompletedExceptionally() && notified.compareAndSet(false, true)) {
+            callback(() -> watcher.onClose(cause));
+        }
+    }
+
+    /**
+     * Run the call after the previous ones, off the I/O dispatcher.
+     */
+    private void callback(Runnable call) {
+        callbacks.add(call);
+        if (pending.getAndIncrement() == 0) {
+            CALLBACKS.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            try {
+                callbacks.poll().run();
+            } catch (RuntimeException e) {
+                LOG.warn("Watcher of " + uri + " failed, closing the watch", e);
+                close();
+            }
+        } while (pending.decrementAndGet() > 0);
+    }
+
+    /**
+     * Collects bytes up to a new line, exposing the buffer to the parser without copying.
+     */
+    private static class LineBuffer extends ByteArrayOutputStream {
+        JsonParser createParser(ObjectMapper mapper) throws IOException {
+            return mapper.getFactory().createParser(buf, 0, count);
+        }
+    }
+
+    private class EventConsumer extends AsyncByteConsumer<Void> {
+
+        private final LineBuffer line = new LineBuffer();
+        private HttpResponse response;
+        private boolean failed;
+
+        @Override
+        protected void onResponseReceived(HttpResponse response) {
+            this.response = response;
+            failed = response.getStatusLine().getStatusCode() >= 300;
+            if (!failed) {
+                opened.complete(null);
+            }
+        }
+
+        @Override
+        protected void onByteReceived(ByteBuffer buf, IOControl ioctrl) throws IOException {
+            while (buf.hasRemaining()) {
+                byte b = buf.get();
+                // on failure keep the whole body to read the Status
+                if (b == '\n' && !failed) {
+                    dispatch();
+                } else {
+                    line.write(b);
+                }
+            }
+        }
+
+        @Override
+        protected Void buildResult(HttpContext context) throws Exception {
+            if (failed) {
+                response.setEntity(new ByteArrayEntity(line.toByteArray()));
+                throw new KubernetesClientException(ResponseStatus.read(mapper, response));
+            }
+            dispatch();
+            return null;
+        }
+
+        @Override
+        protected void releaseResources() {
+        }
+
+        private void dispatch() throws IOException {
+            if (line.size() == 0) {
+                return;
+            }
+            JsonParser parser = line.createParser(mapper);
+            WatchEvent<T> event;
+            while (!closed && (event = readEvent(parser)) != null) {
+                final WatchEvent<T> received = event;
+                callback(() -> {
+                    if (!cancelled) {
+                        watcher.eventReceived(received);
+                    }
+                });
+            }
+            line.reset();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+
+/**
+ * Outcome of a bulk operation of {@link KubernetesApiClient}, one {@link Item} per object in the order they were
+ * given. A failed item doesn't stop the others.
+ */
+public class BulkResult<T> implements Iterable<BulkResult.Item<T>> {
+
+    /**
+     * Outcome for one object: the value returned by the server, the created object or delete {@link
+     * com.github.kubernetes.java.client.exceptions.Status Status}, or the error.
+     */
+    public static final class Item<T> {
+        private final String id;
+        private final T value;
+        private final KubernetesClientException error;
+
+        Item(String id, T value, KubernetesClientException error) {
+            this.id = id;
+            this.value = value;
+            this.error = error;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public KubernetesClientException getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return id + (error == null ? " succeeded" : " failed: " + error.getMessage());
+        }
+    }
+
+    /**
+     * Notified as each item completes, from the thread that started the bulk operation, so calls are not
+     * concurrent and <code>completed</code> increases by one each time.
+     */
+    public interface Listener<T> {
+        void itemCompleted(Item<T> item, int completed, int total);
+    }
+
+    private final List<Item<T>> items;
+
+    BulkResult(List<Item<T>> items) {
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    public List<Item<T>> getItems() {
+        return items;
+    }
+
+    public Iterator<Item<T>> iterator() {
+        return items.iterator();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public List<Item<T>> getSucceeded() {
+        return filter(true);
+    }
+
+    public List<Item<T>> getFailed() {
+        return filter(false);
+    }
+
+    public boolean isSuccess() {
+        for (Item<T> item : items) {
+            if (!item.isSuccess()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Item<T>> filter(boolean success) {
+        List<Item<T>> result = new ArrayList<Item<T>>();
+        for (Item<T> item : items) {
+            if (item.isSuccess() == success) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getSucceeded().size() + " succeeded, " + getFailed().size() + " failed";
+    }
+}
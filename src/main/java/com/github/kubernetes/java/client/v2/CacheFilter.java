@@ -0,0 +1,111 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+
+/**
+ * Revalidates the GET requests of the {@link KubernetesAPI} proxy against a {@link ResponseCache}. A
+ * <code>304 Not Modified</code> is turned into a 200 with an empty body, which the reader interceptor replaces
+ * with the cached object. Response filters run by descending priority, so this one runs after
+ * {@link MetricsFilter} has recorded the 304.
+ */
+@Priority(Priorities.AUTHENTICATION)
+class CacheFilter implements ClientRequestFilter, ClientResponseFilter, ReaderInterceptor {
+
+    private static final String URI = "kubernetes.cache.uri";
+    private static final String ENTRY = "kubernetes.cache.entry";
+    private static final String NOT_MODIFIED = "kubernetes.cache.notModified";
+
+    private final ResponseCache cache;
+
+    CacheFilter(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    public void filter(ClientRequestContext requestContext) {
+        if (!"GET".equals(requestContext.getMethod())) {
+            return;
+        }
+        String uri = requestContext.getUri().toString();
+        requestContext.setProperty(URI, uri);
+        ResponseCache.Entry entry = cache.get(uri);
+        if (entry != null) {
+            requestContext.setProperty(ENTRY, entry);
+            if (entry.etag != null) {
+                requestContext.getHeaders().putSingle(HttpHeaders.IF_NONE_MATCH, entry.etag);
+            }
+            if (entry.lastModified != null) {
+                requestContext.getHeaders().putSingle(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified);
+            }
+        }
+    }
+
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        String uri = (String) requestContext.getProperty(URI);
+        if (uri == null) {
+            return;
+        }
+        int status = responseContext.getStatus();
+        if (status == Response.Status.NOT_MODIFIED.getStatusCode() && requestContext.getProperty(ENTRY) != null) {
+            requestContext.setProperty(NOT_MODIFIED, Boolean.TRUE);
+            responseContext.setStatus(Response.Status.OK.getStatusCode());
+            responseContext.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+            responseContext.setEntityStream(new ByteArrayInputStream(new byte[0]));
+        } else if (status >= 300) {
+            // the error Status is read as usual, and a missing object is no longer cached
+            requestContext.removeProperty(URI);
+            if (status == Response.Status.NOT_FOUND.getStatusCode()) {
+                cache.invalidate(uri);
+            }
+        }
+    }
+
+    public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+        String uri = (String) context.getProperty(URI);
+        if (uri == null) {
+            return context.proceed();
+        }
+        ResponseCache.Entry entry = (ResponseCache.Entry) context.getProperty(ENTRY);
+        if (entry != null && context.getProperty(NOT_MODIFIED) != null) {
+            return cache.notModified(entry);
+        }
+        return cache.read(uri, entry, context.getType(), context.getInputStream(),
+                context.getHeaders().getFirst(HttpHeaders.ETAG),
+                context.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), in -> {
+                    context.setInputStream(in);
+                    return context.proceed();
+                });
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+
+/**
+ * Wraps a {@link KubernetesAPI} so that concurrent identical GET calls (same method and arguments, thus same path
+ * and query) share a single request. Callers arriving while a call is in flight wait for it and get the same
+ * result or exception; the next call after it completes starts a new request.
+ * <p>
+ * The shared result is the same object for all the callers, so it must not be modified.
+ */
+class CoalescingAPI implements InvocationHandler {
+
+    private final KubernetesAPI api;
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight =
+            new ConcurrentHashMap<Key, CompletableFuture<Object>>();
+
+    private CoalescingAPI(KubernetesAPI api) {
+        this.api = api;
+    }
+
+    static KubernetesAPI wrap(KubernetesAPI api) {
+        return (KubernetesAPI) Proxy.newProxyInstance(KubernetesAPI.class.getClassLoader(),
+                new Class<?>[] { KubernetesAPI.class }, new CoalescingAPI(api));
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (!"GET".equals(RetryingAPI.httpMethod(method))) {
+            return call(method, args);
+        }
+        Key key = new Key(method, args);
+        CompletableFuture<Object> future = new CompletableFuture<Object>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (InterruptedException e) {
+                // the call in flight carries on for the other callers
+                Thread.currentThread().interrupt();
+                throw new KubernetesClientException("Interrupted waiting for " + method.getName(), e);
+            }
+        }
+        try {
+            Object result = call(method, args);
+            future.complete(result);
+            return result;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Object call(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(api, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class Key {
+        private final Method method;
+        private final List<Object> args;
+        private final int hash;
+
+        Key(Method method, Object[] args) {
+            this.method = method;
+            this.args = args == null ? null : Arrays.asList(args);
+            this.hash = 31 * method.hashCode() + (args == null ? 0 : this.args.hashCode());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return method.equals(other.method) && (args == null ? other.args == null : args.equals(other.args));
+        }
+    }
+}
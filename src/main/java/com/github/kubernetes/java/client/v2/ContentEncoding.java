@@ -0,0 +1,52 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.IOException;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+
+/**
+ * Decodes gzip and deflate responses of the async engine, which unlike the blocking HttpClient doesn't. The
+ * buffered body is decompressed as it is read, not up front.
+ */
+final class ContentEncoding {
+
+    private static final ResponseContentEncoding DECODER = new ResponseContentEncoding();
+
+    private ContentEncoding() {
+    }
+
+    /**
+     * Replace a compressed entity of the response with a decompressing one, and drop its
+     * <code>Content-Encoding</code> and <code>Content-Length</code> headers. Uncompressed responses are left as is.
+     */
+    static void decode(HttpResponse response) throws IOException {
+        try {
+            DECODER.process(response, HttpClientContext.create());
+        } catch (HttpException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.function.Supplier;
+
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.ServerErrorException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.codec.JsonCodec;
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.metrics.MetricsRecorder;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
+import com.google.common.escape.Escaper;
+import com.google.common.net.UrlEscapers;
+
+/**
+ * {@link KubernetesAPI} implemented directly on HttpClient and a {@link JsonCodec}, without the reflection and the
+ * JAX-RS machinery of the RESTEasy proxy. Errors are reported with the same JAX-RS exceptions as the proxy, so it
+ * can be used in its place. Retries and metrics are applied here instead of with the dynamic proxies of
+ * {@link RetryingAPI} and {@link MeteredAPI}, under the same method names.
+ */
+class DirectKubernetesAPI implements KubernetesAPI {
+
+    private static final Escaper PATH_ESCAPER = UrlEscapers.urlPathSegmentEscaper();
+    private static final Escaper QUERY_ESCAPER = UrlEscapers.urlFormParameterEscaper();
+
+    private final CloseableHttpClient client;
+    private final Supplier<HttpClientContext> context;
+    private final JsonCodec codec;
+    private final ObjectMapper mapper;
+    private final String base;
+    private final RateLimiter reads;
+    private final RateLimiter mutations;
+    private final ResponseCache cache;
+    private final RetryPolicy retryPolicy;
+    private final MetricsRecorder metrics;
+
+    DirectKubernetesAPI(CloseableHttpClient client, Supplier<HttpClientContext> context, URI uri,
+            JsonCodec codec, ObjectMapper mapper, RateLimiter reads, RateLimiter mutations, ResponseCache cache,
+            RetryPolicy retryPolicy, MetricsRecorder metrics) {
+        this.client = client;
+        this.context = context;
+        this.codec = codec;
+        this.mapper = mapper;
+        String s = uri.toString();
+        this.base = s.endsWith("/") ? s.substring(0, s.length() - 1) : s;
+        this.reads = reads;
+        this.mutations = mutations;
+        this.cache = cache;
+        this.retryPolicy = retryPolicy;
+        this.metrics = metrics;
+    }
+
+    /* Pod API */
+
+    public Pod getPod(String podId) throws KubernetesClientException {
+        return call("getPod", new HttpGet(uri("/pods/", podId)), Pod.class);
+    }
+
+    public PodList getAllPods() throws KubernetesClientException {
+        return call("getAllPods", new HttpGet(base + "/pods"), PodList.class);
+    }
+
+    public PodList getSelectedPods(String labels) throws KubernetesClientException {
+        return call("getSelectedPods", new HttpGet(base + "/pods?labels=" + QUERY_ESCAPER.escape(labels)),
+                PodList.class);
+    }
+
+    public PodList getPods(String labels, String fields) throws KubernetesClientException {
+        return call("getPods", new HttpGet(base + "/pods" + query(labels, fields)), PodList.class);
+    }
+
+    public Pod createPod(Pod pod) throws KubernetesClientException {
+        return call("createPod", withBody(new HttpPost(base + "/pods"), pod), Pod.class);
+    }
+
+    public Status deletePod(String podId) throws KubernetesClientException {
+        return call("deletePod", new HttpDelete(uri("/pods/", podId)), Status.class);
+    }
+
+    /* Replication Controller API */
+
+    public ReplicationController getReplicationController(String controllerId) throws KubernetesClientException {
+        return call("getReplicationController", new HttpGet(uri("/replicationControllers/", controllerId)),
+                ReplicationController.class);
+    }
+
+    public ReplicationControllerList getAllReplicationControllers() throws KubernetesClientException {
+        return call("getAllReplicationControllers", new HttpGet(base + "/replicationControllers"),
+                ReplicationControllerList.class);
+    }
+
+    public ReplicationControllerList getReplicationControllers(String labels, String fields)
+            throws KubernetesClientException {
+        return call("getReplicationControllers", new HttpGet(base + "/replicationControllers" + query(labels, fields)),
+                ReplicationControllerList.class);
+    }
+
+    public ReplicationController createReplicationController(ReplicationController controller)
+            throws KubernetesClientException {
+        return call("createReplicationController", withBody(new HttpPost(base + "/replicationControllers"), controller),
+                ReplicationController.class);
+    }
+
+    public Status updateReplicationController(String controllerId, int replicas) throws KubernetesClientException {
+        return call("updateReplicationController",
+                withBody(new HttpPut(uri("/replicationControllers/", controllerId)), replicas), Status.class);
+    }
+
+    public ReplicationController updateReplicationController(String controllerId,
+            ReplicationController replicationController) throws KubernetesClientException {
+        return call("updateReplicationController",
+                withBody(new HttpPut(uri("/replicationControllers/", controllerId)), replicationController),
+                ReplicationController.class);
+    }
+
+    public Status deleteReplicationController(String controllerId) throws KubernetesClientException {
+        return call("deleteReplicationController", new HttpDelete(uri("/replicationControllers/", controllerId)),
+                Status.class);
+    }
+
+    /* Services API */
+
+    public Service getService(String serviceId) throws KubernetesClientException {
+        return call("getService", new HttpGet(uri("/services/", serviceId)), Service.class);
+    }
+
+    public ServiceList getAllServices() throws KubernetesClientException {
+        return call("getAllServices", new HttpGet(base + "/services"), ServiceList.class);
+    }
+
+    public ServiceList getServices(String labels, String fields) throws KubernetesClientException {
+        return call("getServices", new HttpGet(base + "/services" + query(labels, fields)), ServiceList.class);
+    }
+
+    public Service createService(Service service) throws KubernetesClientException {
+        return call("createService", withBody(new HttpPost(base + "/services"), service), Service.class);
+    }
+
+    public Status deleteService(String serviceId) throws KubernetesClientException {
+        return call("deleteService", new HttpDelete(uri("/services/", serviceId)), Status.class);
+    }
+
+    /**
+     * The query string for the selectors that are not null, as the proxy skips null parameters.
+     */
+    private static String query(String labels, String fields) {
+        StringBuilder query = new StringBuilder();
+        if (labels != null) {
+            query.append("?labels=").append(QUERY_ESCAPER.escape(labels));
+        }
+        if (fields != null) {
+            query.append(query.length() == 0 ? '?' : '&').append("fields=").append(QUERY_ESCAPER.escape(fields));
+        }
+        return query.toString();
+    }
+
+    private String uri(String resource, String id) {
+        return base + resource + PATH_ESCAPER.escape(id);
+    }
+
+    private HttpRequestBase withBody(HttpEntityEnclosingRequestBase request, Object body) {
+        byte[] json;
+        try {
+            json = codec.write(body);
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+        request.setEntity(new ByteArrayEntity(json, ContentType.APPLICATION_JSON));
+        return request;
+    }
+
+    /**
+     * Execute the request, retried and reported as <code>name</code> if enabled.
+     */
+    private <T> T call(String name, final HttpRequestBase request, final Class<T> type) {
+        if (retryPolicy == null || !retryPolicy.isRetryable(request.getMethod())) {
+            return metered(name, request, type);
+        }
+        return RetryingAPI.retry(retryPolicy, name, () -> {
+            // make the request reusable for another attempt
+            request.reset();
+            return metered(name, request, type);
+        });
+    }
+
+    private <T> T metered(String name, final HttpRequestBase request, final Class<T> type) {
+        if (metrics == null) {
+            return execute(request, type);
+        }
+        MetricsFilter.Call call = MetricsFilter.begin();
+        long start = System.nanoTime();
+        try {
+            return execute(request, type);
+        } catch (WebApplicationException e) {
+            MeteredAPI.failed(call, e);
+            throw e;
+        } finally {
+            MeteredAPI.end(metrics, name, call, start);
+        }
+    }
+
+    private <T> T execute(HttpRequestBase request, Class<T> type) {
+        RateLimiter limiter = RateLimitFilter.isRead(request.getMethod()) ? reads : mutations;
+        if (limiter != null) {
+            limiter.acquire();
+        }
+        request.setHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType());
+        String uri = null;
+        ResponseCache.Entry cached = null;
+        if (cache != null && request instanceof HttpGet) {
+            uri = request.getURI().toString();
+            cached = cache.get(uri);
+            if (cached != null && cached.etag != null) {
+                request.setHeader(HttpHeaders.IF_NONE_MATCH, cached.etag);
+            }
+            if (cached != null && cached.lastModified != null) {
+                request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified);
+            }
+        }
+        MetricsFilter.Call call = MetricsFilter.active();
+        if (call != null && request instanceof HttpEntityEnclosingRequestBase) {
+            call.out.count += ((HttpEntityEnclosingRequestBase) request).getEntity().getContentLength();
+        }
+        try (CloseableHttpResponse response = client.execute(request, context.get())) {
+            int code = response.getStatusLine().getStatusCode();
+            if (call != null) {
+                call.status = code;
+            }
+            HttpEntity entity = response.getEntity();
+            if (code == 304 && cached != null) {
+                return type.cast(cache.notModified(cached));
+            }
+            if (code >= 300) {
+                if (code == 404 && uri != null) {
+                    cache.invalidate(uri);
+                }
+                throw error(response, code);
+            }
+            if (entity == null) {
+                return null;
+            }
+            InputStream in = entity.getContent();
+            if (call != null) {
+                in = call.in.reset(in);
+            }
+            try {
+                if (uri != null) {
+                    return type.cast(cache.read(uri, cached, type, in, header(response, HttpHeaders.ETAG),
+                            header(response, HttpHeaders.LAST_MODIFIED), stream -> codec.read(stream, type)));
+                }
+                return codec.read(in, type);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
+    private static String header(CloseableHttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return header == null ? null : header.getValue();
+    }
+
+    /**
+     * Build the exception RESTEasy would throw for the response, with the {@link Status} sent by the server as
+     * entity.
+     */
+    private WebApplicationException error(CloseableHttpResponse response, int code) {
+        Status status = ResponseStatus.read(mapper, response);
+        Response.ResponseBuilder builder = Response.status(code).entity(status);
+        Header retryAfter = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, retryAfter.getValue());
+        }
+        Response errorResponse = builder.build();
+        if (code == 404) {
+            return new NotFoundException(errorResponse);
+        } else if (code >= 400 && code < 500) {
+            return new ClientErrorException(errorResponse);
+        } else if (code >= 500 && code < 600) {
+            return new ServerErrorException(errorResponse);
+        }
+        return new WebApplicationException(errorResponse);
+    }
+}
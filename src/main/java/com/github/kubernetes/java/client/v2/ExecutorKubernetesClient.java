@@ -0,0 +1,164 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.interfaces.KubernetesAPIAsyncClientInterface;
+import com.github.kubernetes.java.client.interfaces.KubernetesAPIClientInterface;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * {@link KubernetesAPIAsyncClientInterface} running each call of a blocking {@link KubernetesAPIClientInterface}
+ * on an executor. With {@link #threadPerCall(KubernetesAPIClientInterface)} every call gets its own virtual thread
+ * on Java 21, so thousands of calls can wait on the server at the cost of a few carrier threads, keeping the
+ * simpler blocking engine, retries and decorators of the wrapped client. Futures fail with the
+ * {@link com.github.kubernetes.java.client.exceptions.KubernetesClientException} the call threw.
+ * <p>
+ * Calls in flight are bounded by the connection pool of the wrapped client, see
+ * {@link RestFactory#connectionPoolSize(int)}, the rest wait for a connection. See {@link VirtualThreads} about
+ * pinning.
+ */
+public class ExecutorKubernetesClient implements KubernetesAPIAsyncClientInterface, Closeable {
+
+    private final KubernetesAPIClientInterface client;
+    private final Executor executor;
+    /** executor created by this class, shut down on close */
+    private final ExecutorService owned;
+
+    /**
+     * Run the calls on the given executor, which is not shut down on {@link #close()}.
+     */
+    public ExecutorKubernetesClient(KubernetesAPIClientInterface client, Executor executor) {
+        this(client, executor, null);
+    }
+
+    private ExecutorKubernetesClient(KubernetesAPIClientInterface client, Executor executor, ExecutorService owned) {
+        this.client = client;
+        this.executor = executor;
+        this.owned = owned;
+    }
+
+    /**
+     * Run each call on a new virtual thread, or before Java 21 on an unbounded pool of daemon platform threads.
+     */
+    public static ExecutorKubernetesClient threadPerCall(KubernetesAPIClientInterface client) {
+        ExecutorService executor = VirtualThreads.isAvailable() ? VirtualThreads.newExecutor() : Executors
+                .newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("kubernetes-call-%d").setDaemon(true)
+                        .build());
+        return new ExecutorKubernetesClient(client, executor, executor);
+    }
+
+    public CompletableFuture<Pod> getPod(String podId) {
+        return call(() -> client.getPod(podId));
+    }
+
+    public CompletableFuture<PodList> getAllPods() {
+        return call(client::getAllPods);
+    }
+
+    public CompletableFuture<PodList> getSelectedPods(Map<String, String> labels) {
+        return call(() -> client.getSelectedPods(labels));
+    }
+
+    public CompletableFuture<Pod> createPod(Pod pod) {
+        return call(() -> client.createPod(pod));
+    }
+
+    public CompletableFuture<Status> deletePod(String podId) {
+        return call(() -> client.deletePod(podId));
+    }
+
+    public CompletableFuture<ReplicationController> getReplicationController(String controllerId) {
+        return call(() -> client.getReplicationController(controllerId));
+    }
+
+    public CompletableFuture<ReplicationControllerList> getAllReplicationControllers() {
+        return call(client::getAllReplicationControllers);
+    }
+
+    public CompletableFuture<ReplicationController> createReplicationController(ReplicationController controller) {
+        return call(() -> client.createReplicationController(controller));
+    }
+
+    public CompletableFuture<ReplicationController> updateReplicationController(String controllerId, int replicas) {
+        return call(() -> client.updateReplicationController(controllerId, replicas));
+    }
+
+    public CompletableFuture<Status> deleteReplicationController(String controllerId) {
+        return call(() -> client.deleteReplicationController(controllerId));
+    }
+
+    public CompletableFuture<Service> getService(String serviceId) {
+        return call(() -> client.getService(serviceId));
+    }
+
+    public CompletableFuture<ServiceList> getAllServices() {
+        return call(client::getAllServices);
+    }
+
+    public CompletableFuture<Service> createService(Service service) {
+        return call(() -> client.createService(service));
+    }
+
+    public CompletableFuture<Status> deleteService(String serviceId) {
+        return call(() -> client.deleteService(serviceId));
+    }
+
+    /**
+     * Stop accepting calls, those already started complete.
+     */
+    public void close() {
+        if (owned != null) {
+            owned.shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<T> call(final Supplier<T> call) {
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(call.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // rejected, eg. after close
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+
+/**
+ * Query on object fields sent to the server in the <code>fields</code> parameter, eg. the Pods scheduled on a
+ * host with <code>new FieldSelector().equal("DesiredState.Host", "node-1")</code>. Fields only support equality
+ * and inequality, and each resource supports its own set of fields, <code>name</code> for all of them.
+ */
+public class FieldSelector {
+
+    private static final Pattern FIELD = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_.]*");
+    private static final Pattern COMPARISON = Pattern.compile("\\s*([^!=\\s]+)\\s*(!=|==|=)\\s*(\\S*)\\s*");
+
+    private static final class Requirement {
+        final String field;
+        final boolean equal;
+        final String value;
+
+        Requirement(String field, boolean equal, String value) {
+            this.field = field;
+            this.equal = equal;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return field + (equal ? "=" : "!=") + value;
+        }
+    }
+
+    private final List<Requirement> requirements = new ArrayList<Requirement>();
+
+    /**
+     * Parse the <code>fields</code> parameter syntax, as produced by {@link #toString()}.
+     * 
+     * @throws IllegalArgumentException
+     *             if it is not a valid selector
+     */
+    public static FieldSelector parse(String selector) {
+        FieldSelector result = new FieldSelector();
+        if (selector == null || selector.trim().isEmpty()) {
+            return result;
+        }
+        for (String term : Splitter.on(',').split(selector)) {
+            Matcher m = COMPARISON.matcher(term);
+            if (!m.matches()) {
+                throw new IllegalArgumentException("Invalid field selector: " + term);
+            }
+            if ("!=".equals(m.group(2))) {
+                result.notEqual(m.group(1), m.group(3));
+            } else {
+                result.equal(m.group(1), m.group(3));
+            }
+        }
+        return result;
+    }
+
+    public FieldSelector equal(String field, String value) {
+        return add(field, true, value);
+    }
+
+    public FieldSelector notEqual(String field, String value) {
+        return add(field, false, value);
+    }
+
+    public boolean isEmpty() {
+        return requirements.isEmpty();
+    }
+
+    /**
+     * Whether an object with these field values is selected, a missing field compares as the empty string.
+     */
+    public boolean matches(Map<String, String> fields) {
+        for (Requirement requirement : requirements) {
+            String value = fields.get(requirement.field);
+            if (requirement.value.equals(value == null ? "" : value) != requirement.equal) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The value of the <code>fields</code> query parameter.
+     */
+    @Override
+    public String toString() {
+        return Joiner.on(',').join(requirements);
+    }
+
+    private FieldSelector add(String field, boolean equal, String value) {
+        if (field == null || !FIELD.matcher(field).matches()) {
+            throw new IllegalArgumentException("Invalid field: " + field);
+        }
+        if (value == null || value.indexOf(',') >= 0 || value.indexOf('=') >= 0) {
+            throw new IllegalArgumentException("Invalid value for field " + field + ": " + value);
+        }
+        requirements.add(new Requirement(field, equal, value));
+        return this;
+    }
+}
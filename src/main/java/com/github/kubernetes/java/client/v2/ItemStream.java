@@ -0,0 +1,213 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+
+/**
+ * The items of a list response, decoded one at a time from the <code>items</code> array as they are iterated,
+ * so only the current item is held in memory. Must be closed if not fully consumed, closing aborts the
+ * connection instead of reading the rest of the response.
+ */
+public class ItemStream<T> implements Iterator<T>, Closeable {
+
+    private final CloseableHttpClient client;
+    private final HttpClientContext context;
+    private final HttpGet request;
+    private final ObjectMapper mapper;
+    private final Class<T> type;
+
+    private CloseableHttpResponse response;
+    private JsonParser parser;
+    private int resourceVersion;
+    private String continueToken;
+    private T next;
+    private boolean done;
+
+    ItemStream(CloseableHttpClient client, HttpClientContext context, URI uri, ObjectMapper mapper, Class<T> type) {
+        this.client = client;
+        this.context = context;
+        this.request = new HttpGet(uri);
+        this.mapper = mapper;
+        this.type = type;
+    }
+
+    /**
+     * Send the request and position the parser at the start of the items.
+     */
+    void open() throws KubernetesClientException {
+        try {
+            response = client.execute(request, context);
+            int code = response.getStatusLine().getStatusCode();
+            if (code == HttpStatus.SC_NOT_FOUND) {
+                // same as KubernetesApiClient, no list is an empty list
+                finish();
+                return;
+            }
+            if (code >= 300) {
+                KubernetesClientException e = new KubernetesClientException(ResponseStatus.read(mapper, response));
+                finish();
+                throw e;
+            }
+            parser = mapper.getFactory().createParser(response.getEntity().getContent());
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                close();
+                throw new KubernetesClientException("Expected a list from " + request.getURI());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+                    return;
+                } else {
+                    readField(field, token);
+                }
+            }
+            // no items
+            finish();
+        } catch (IOException e) {
+            close();
+            throw new KubernetesClientException("Unable to list " + request.getURI(), e);
+        }
+    }
+
+    /**
+     * The resourceVersion of the list, if the server sent it before the items.
+     */
+    public int getResourceVersion() {
+        return resourceVersion;
+    }
+
+    /**
+     * The token to request the next page if the list was retrieved with a <code>limit</code>. Only known once all
+     * the items have been read, unless the server sent it before them.
+     */
+    public String getContinue() {
+        return continueToken;
+    }
+
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item = next;
+        next = null;
+        return item;
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * A sequential {@link Stream} over the remaining items, closing it closes this.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Abort the request if the response has not been read to the end, so the rest is not transferred.
+     */
+    public void close() {
+        if (!done) {
+            done = true;
+            request.abort();
+        }
+        if (response != null) {
+            try {
+                response.close();
+            } catch (IOException e) {
+                // aborted already
+            }
+        }
+    }
+
+    /**
+     * Read the rest of the response and release the connection back to the pool to be reused.
+     */
+    private void finish() {
+        done = true;
+        try {
+            EntityUtils.consume(response.getEntity());
+            response.close();
+        } catch (IOException e) {
+            request.abort();
+        }
+    }
+
+    private void readField(String field, JsonToken token) throws IOException {
+        if ("resourceVersion".equals(field) && token == JsonToken.VALUE_NUMBER_INT) {
+            resourceVersion = parser.getIntValue();
+        } else if ("continue".equals(field) && token == JsonToken.VALUE_STRING) {
+            continueToken = parser.getText();
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private T readNext() {
+        try {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                return mapper.readValue(parser, type);
+            }
+            // end of the items, only the small fields that may follow them are left
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                readField(field, parser.nextToken());
+            }
+            finish();
+            return null;
+        } catch (IOException e) {
+            close();
+            throw new KubernetesClientException("Error reading list " + request.getURI(), e);
+        }
+    }
+}
@@ -1,20 +1,70 @@
 package com.github.kubernetes.java.client.v2;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.ws.rs.ext.ContextResolver;
 import javax.ws.rs.ext.Provider;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
 
+/**
+ * Holds the {@link ObjectMapper} used to encode and decode the API objects, with an {@link ObjectReader} and
+ * {@link ObjectWriter} per model type built once and reused on every call. {@link #getDefault()} is shared by
+ * all the clients of the process unless {@link RestFactory#objectMapper(ObjectMapper)} is used, so they all
+ * share the serializer caches too.
+ */
 @Provider
 public class JacksonConfig implements ContextResolver<ObjectMapper> {
+
+    private static final Class<?>[] MODEL_TYPES = { Pod.class, PodList.class, ReplicationController.class,
+            ReplicationControllerList.class, Service.class, ServiceList.class, Status.class };
+
     private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<Class<?>, ObjectReader>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<Class<?>, ObjectWriter>();
+
+    private static class DefaultHolder {
+        static final JacksonConfig INSTANCE = new JacksonConfig(createObjectMapper());
+    }
 
     public JacksonConfig() throws Exception {
-        objectMapper = new ObjectMapper().configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+        this(createObjectMapper());
+    }
+
+    public JacksonConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (Class<?> type : MODEL_TYPES) {
+            readers.put(type, objectMapper.reader(type));
+            writers.put(type, objectMapper.writerFor(type));
+        }
+    }
+
+    /**
+     * The configuration shared by all the clients of the process.
+     */
+    public static JacksonConfig getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Create a mapper with the settings needed for the API objects.
+     */
+    public static ObjectMapper createObjectMapper() {
+        return new ObjectMapper().configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
                 .setSerializationInclusion(Include.NON_NULL).registerModule(new JodaModule());
     }
@@ -22,4 +72,30 @@ public class JacksonConfig implements ContextResolver<ObjectMapper> {
     public ObjectMapper getContext(Class<?> type) {
         return objectMapper;
     }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Reader for the given type, cached.
+     */
+    public ObjectReader reader(Class<?> type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = readers.computeIfAbsent(type, objectMapper::reader);
+        }
+        return reader;
+    }
+
+    /**
+     * Writer for the given type, cached.
+     */
+    public ObjectWriter writer(Class<?> type) {
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            writer = writers.computeIfAbsent(type, objectMapper::writerFor);
+        }
+        return writer;
+    }
 }
@@ -239,4 +239,41 @@ public interface KubernetesAPI {
     @Path("/pods")
     @Consumes(MediaType.APPLICATION_JSON)
     public PodList getSelectedPods(@QueryParam("labels") String labels) throws KubernetesClientException;
+
+    /**
+     * Get the Pods matching a label and a field query.
+     * 
+     * @param labels
+     *            {@link LabelSelector} query, or null
+     * @param fields
+     *            {@link FieldSelector} query, or null
+     * @throws KubernetesClientException
+     */
+    @GET
+    @Path("/pods")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public PodList getPods(@QueryParam("labels") String labels, @QueryParam("fields") String fields)
+            throws KubernetesClientException;
+
+    /**
+     * Get the Replication Controllers matching a label and a field query, either can be null.
+     * 
+     * @throws KubernetesClientException
+     */
+    @GET
+    @Path("/replicationControllers")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public ReplicationControllerList getReplicationControllers(@QueryParam("labels") String labels,
+            @QueryParam("fields") String fields) throws KubernetesClientException;
+
+    /**
+     * Get the Services matching a label and a field query, either can be null.
+     * 
+     * @throws KubernetesClientException
+     */
+    @GET
+    @Path("/services")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public ServiceList getServices(@QueryParam("labels") String labels, @QueryParam("fields") String fields)
+            throws KubernetesClientException;
 }
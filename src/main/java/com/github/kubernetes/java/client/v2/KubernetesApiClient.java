@@ -1,32 +1,71 @@
 package com.github.kubernetes.java.client.v2;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import javax.ws.rs.NotFoundException;
 import javax.ws.rs.WebApplicationException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.reactivestreams.Publisher;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.codec.JsonCodec;
 import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
 import com.github.kubernetes.java.client.exceptions.Status;
 import com.github.kubernetes.java.client.interfaces.KubernetesAPIClientInterface;
+import com.github.kubernetes.java.client.interfaces.Watcher;
 import com.github.kubernetes.java.client.model.Pod;
 import com.github.kubernetes.java.client.model.PodList;
 import com.github.kubernetes.java.client.model.ReplicationController;
 import com.github.kubernetes.java.client.model.ReplicationControllerList;
 import com.github.kubernetes.java.client.model.Service;
 import com.github.kubernetes.java.client.model.ServiceList;
+import com.github.kubernetes.java.client.model.WatchEvent;
 import com.google.common.base.Joiner;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class KubernetesApiClient implements KubernetesAPIClientInterface {
 
     private static final Log LOG = LogFactory.getLog(KubernetesApiClient.class);
 
+    /** Runs the calls of bulk operations, shared by all the clients, each bulk call bounds its own concurrency */
+    private static final Executor BULK_EXECUTOR = VirtualThreads.isAvailable() ? VirtualThreads.newExecutor()
+            : Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("kubernetes-bulk-%d")
+                    .setDaemon(true).build());
+
     private URI endpointURI;
     private KubernetesAPI api;
+    /** api for the read methods, coalescing concurrent identical calls if enabled */
+    private KubernetesAPI reads;
+
+    private final RestFactory factory;
+    private final String username;
+    private final String password;
+    private final String serverCertificate;
+    private final ObjectMapper mapper;
+
+    /** Separate clients for long lived streams so they don't hold connections from the proxy pool */
+    private CloseableHttpClient streamingClient;
+    private CloseableHttpAsyncClient asyncStreamingClient;
 
     public KubernetesApiClient(String endpointUrl, String username, String password) {
         this(endpointUrl, username, password, new RestFactory());
@@ -38,23 +77,19 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
 
 
     public KubernetesApiClient(String endpointUrl, String username, String password, String serverCertificate, RestFactory factory) {
-        try {
-            if (endpointUrl.matches("/api/v1[a-z0-9]+")) {
-                LOG.warn("Deprecated: KubernetesApiClient endpointUrl should not include the /api/version section in "
-                        + endpointUrl);
-                endpointURI = new URI(endpointUrl);
-            } else {
-                endpointURI = new URI(endpointUrl + "/api/" + KubernetesAPIClientInterface.VERSION);
-            }
-        } catch (URISyntaxException e) {
-            throw new RuntimeException(e);
-        }
+        this.factory = factory;
+        this.username = username;
+        this.password = password;
+        this.serverCertificate = serverCertificate;
+        endpointURI = endpointURI(endpointUrl);
         api = factory.createAPI(endpointURI, username, password, serverCertificate);
+        reads = factory.isCoalesceReads() ? CoalescingAPI.wrap(api) : api;
+        mapper = factory.getJacksonConfig().getObjectMapper();
     }
 
     public Pod getPod(String podId) throws KubernetesClientException {
         try {
-            return api.getPod(podId);
+            return reads.getPod(podId);
         } catch (NotFoundException e) {
             return null;
         } catch (WebApplicationException e) {
@@ -64,7 +99,7 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
 
     public PodList getAllPods() throws KubernetesClientException {
         try {
-            return api.getAllPods();
+            return reads.getAllPods();
         } catch (NotFoundException e) {
             return new PodList();
         } catch (WebApplicationException e) {
@@ -76,7 +111,27 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
         String param = Joiner.on(",").withKeyValueSeparator("=").join(labels);
 
         try {
-            return api.getSelectedPods(param);
+            return reads.getSelectedPods(param);
+        } catch (NotFoundException e) {
+            return new PodList();
+        } catch (WebApplicationException e) {
+            throw new KubernetesClientException(e);
+        }
+    }
+
+    /**
+     * Run a label query, which can use the set-based operators, on the server.
+     */
+    public PodList getSelectedPods(LabelSelector labels) throws KubernetesClientException {
+        return getPods(labels, null);
+    }
+
+    /**
+     * Get the Pods matching both a label and a field query, filtered by the server. Either can be null.
+     */
+    public PodList getPods(LabelSelector labels, FieldSelector fields) throws KubernetesClientException {
+        try {
+            return reads.getPods(param(labels), param(fields));
         } catch (NotFoundException e) {
             return new PodList();
         } catch (WebApplicationException e) {
@@ -102,7 +157,7 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
 
     public ReplicationController getReplicationController(String controllerId) throws KubernetesClientException {
         try {
-            return api.getReplicationController(controllerId);
+            return reads.getReplicationController(controllerId);
         } catch (NotFoundException e) {
             return null;
         } catch (WebApplicationException e) {
@@ -112,7 +167,21 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
 
     public ReplicationControllerList getAllReplicationControllers() throws KubernetesClientException {
         try {
-            return api.getAllReplicationControllers();
+            return reads.getAllReplicationControllers();
+        } catch (NotFoundException e) {
+            return new ReplicationControllerList();
+        } catch (WebApplicationException e) {
+            throw new KubernetesClientException(e);
+        }
+    }
+
+    /**
+     * Get the Replication Controllers matching both a label and a field query, either can be null.
+     */
+    public ReplicationControllerList getReplicationControllers(LabelSelector labels, FieldSelector fields)
+            throws KubernetesClientException {
+        try {
+            return reads.getReplicationControllers(param(labels), param(fields));
         } catch (NotFoundException e) {
             return new ReplicationControllerList();
         } catch (WebApplicationException e) {
@@ -133,6 +202,10 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
             throws KubernetesClientException {
         try {
             ReplicationController controller = api.getReplicationController(controllerId);
+            if (factory.getResponseCache() != null) {
+                // cached objects are shared, change a copy
+                controller = copy(controller, ReplicationController.class);
+            }
             controller.getDesiredState().setReplicas(replicas);
             return api.updateReplicationController(controllerId, controller);
         } catch (WebApplicationException e) {
@@ -159,7 +232,7 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
 
     public Service getService(String serviceId) throws KubernetesClientException {
         try {
-            return api.getService(serviceId);
+            return reads.getService(serviceId);
         } catch (NotFoundException e) {
             return null;
         } catch (WebApplicationException e) {
@@ -169,7 +242,20 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
 
     public ServiceList getAllServices() throws KubernetesClientException {
         try {
-            return api.getAllServices();
+            return reads.getAllServices();
+        } catch (NotFoundException e) {
+            return new ServiceList();
+        } catch (WebApplicationException e) {
+            throw new KubernetesClientException(e);
+        }
+    }
+
+    /**
+     * Get the Services matching both a label and a field query, either can be null.
+     */
+    public ServiceList getServices(LabelSelector labels, FieldSelector fields) throws KubernetesClientException {
+        try {
+            return reads.getServices(param(labels), param(fields));
         } catch (NotFoundException e) {
             return new ServiceList();
         } catch (WebApplicationException e) {
@@ -193,4 +279,465 @@ public class KubernetesApiClient implements KubernetesAPIClientInterface {
         }
     }
 
+    /**
+     * Watch changes to Pods, starting after the given resourceVersion. Events are delivered to the watcher from a
+     * background thread until the returned {@link Watch} is closed.
+     */
+    public Watch<Pod> watchPods(int resourceVersion, Watcher<Pod> watcher) throws KubernetesClientException {
+        return watch("pods", resourceVersion, Pod.class, watcher);
+    }
+
+    /**
+     * Watch changes to Replication Controllers, starting after the given resourceVersion.
+     */
+    public Watch<ReplicationController> watchReplicationControllers(int resourceVersion,
+            Watcher<ReplicationController> watcher) throws KubernetesClientException {
+        return watch("replicationControllers", resourceVersion, ReplicationController.class, watcher);
+    }
+
+    /**
+     * Watch changes to Services, starting after the given resourceVersion.
+     */
+    public Watch<Service> watchServices(int resourceVersion, Watcher<Service> watcher)
+            throws KubernetesClientException {
+        return watch("services", resourceVersion, Service.class, watcher);
+    }
+
+    /**
+     * Get all Pods, decoding them one at a time while iterating instead of building a {@link PodList}.
+     */
+    public ItemStream<Pod> streamAllPods() throws KubernetesClientException {
+        return stream(resourceURI("pods"), Pod.class);
+    }
+
+    /**
+     * Run a label query, decoding the Pods one at a time while iterating.
+     */
+    public ItemStream<Pod> streamSelectedPods(Map<String, String> labels) throws KubernetesClientException {
+        String param = Joiner.on(",").withKeyValueSeparator("=").join(labels);
+        return stream(resourceURI("pods").addParameter("labels", param), Pod.class);
+    }
+
+    /**
+     * Run a label and a field query, decoding the Pods one at a time while iterating. Either can be null.
+     */
+    public ItemStream<Pod> streamPods(LabelSelector labels, FieldSelector fields) throws KubernetesClientException {
+        return stream(selectorURI("pods", labels, fields), Pod.class);
+    }
+
+    /**
+     * Get all Replication Controllers, decoding them one at a time while iterating.
+     */
+    public ItemStream<ReplicationController> streamAllReplicationControllers() throws KubernetesClientException {
+        return stream(resourceURI("replicationControllers"), ReplicationController.class);
+    }
+
+    /**
+     * Get all Services, decoding them one at a time while iterating.
+     */
+    public ItemStream<Service> streamAllServices() throws KubernetesClientException {
+        return stream(resourceURI("services"), Service.class);
+    }
+
+    /**
+     * Get all Pods in pages of at most <code>limit</code>, prefetching the next page while the current one is
+     * consumed. Falls back to streaming the single response if the server does not support paging.
+     */
+    public ListPager<Pod> pageAllPods(int limit) throws KubernetesClientException {
+        return pagePods(null, null, limit);
+    }
+
+    /**
+     * Run a label and a field query in pages of at most <code>limit</code>. Either query can be null.
+     */
+    public ListPager<Pod> pagePods(LabelSelector labels, FieldSelector fields, int limit)
+            throws KubernetesClientException {
+        return page(selectorURI("pods", labels, fields), Pod.class, limit);
+    }
+
+    public ListPager<ReplicationController> pageAllReplicationControllers(int limit)
+            throws KubernetesClientException {
+        return pageReplicationControllers(null, null, limit);
+    }
+
+    public ListPager<ReplicationController> pageReplicationControllers(LabelSelector labels, FieldSelector fields,
+            int limit) throws KubernetesClientException {
+        return page(selectorURI("replicationControllers", labels, fields), ReplicationController.class, limit);
+    }
+
+    public ListPager<Service> pageAllServices(int limit) throws KubernetesClientException {
+        return pageServices(null, null, limit);
+    }
+
+    public ListPager<Service> pageServices(LabelSelector labels, FieldSelector fields, int limit)
+            throws KubernetesClientException {
+        return page(selectorURI("services", labels, fields), Service.class, limit);
+    }
+
+    /**
+     * Publish all the Pods, read from the list response as the subscriber requests them. Each subscription makes
+     * its own request.
+     */
+    public Publisher<Pod> publishAllPods() {
+        return publishList(resourceURI("pods"), Pod.class);
+    }
+
+    /**
+     * Publish the Pods matching the labels, read as the subscriber requests them.
+     */
+    public Publisher<Pod> publishSelectedPods(Map<String, String> labels) {
+        String param = Joiner.on(",").withKeyValueSeparator("=").join(labels);
+        return publishList(resourceURI("pods").addParameter("labels", param), Pod.class);
+    }
+
+    /**
+     * Publish the Pods matching a label and a field query, either can be null.
+     */
+    public Publisher<Pod> publishPods(LabelSelector labels, FieldSelector fields) {
+        return publishList(selectorURI("pods", labels, fields), Pod.class);
+    }
+
+    public Publisher<ReplicationController> publishAllReplicationControllers() {
+        return publishList(resourceURI("replicationControllers"), ReplicationController.class);
+    }
+
+    public Publisher<Service> publishAllServices() {
+        return publishList(resourceURI("services"), Service.class);
+    }
+
+    /**
+     * Publish the changes to Pods after the given resourceVersion, read from the watch as the subscriber requests
+     * them. The publisher completes when the server ends the watch and fails on an <code>ERROR</code> event.
+     * Always read on a blocking connection, whatever the {@link RestFactory.Engine}.
+     */
+    public Publisher<WatchEvent<Pod>> publishPodEvents(int resourceVersion) {
+        return publishEvents("pods", resourceVersion, Pod.class);
+    }
+
+    public Publisher<WatchEvent<ReplicationController>> publishReplicationControllerEvents(int resourceVersion) {
+        return publishEvents("replicationControllers", resourceVersion, ReplicationController.class);
+    }
+
+    public Publisher<WatchEvent<Service>> publishServiceEvents(int resourceVersion) {
+        return publishEvents("services", resourceVersion, Service.class);
+    }
+
+    /**
+     * Create the given Pods, several at a time up to {@link RestFactory#bulkConcurrency(int)}. Failures are
+     * returned in the result instead of thrown, and don't stop the rest.
+     */
+    public BulkResult<Pod> createPods(Collection<Pod> pods) {
+        return createPods(pods, null);
+    }
+
+    /**
+     * Create the given Pods, notifying the listener as each one completes.
+     */
+    public BulkResult<Pod> createPods(Collection<Pod> pods, BulkResult.Listener<Pod> listener) {
+        return bulk(pods, Pod::getId, this::createPod, listener);
+    }
+
+    /**
+     * Delete the Pods with the given ids, several at a time up to {@link RestFactory#bulkConcurrency(int)}.
+     */
+    public BulkResult<Status> deletePods(Collection<String> podIds) {
+        return deletePods(podIds, null);
+    }
+
+    public BulkResult<Status> deletePods(Collection<String> podIds, BulkResult.Listener<Status> listener) {
+        return bulk(podIds, Function.identity(), this::deletePod, listener);
+    }
+
+    /**
+     * Delete the Pods matching the labels at the time of the call.
+     */
+    public BulkResult<Status> deleteSelectedPods(Map<String, String> labels) {
+        return deleteSelectedPods(labels, null);
+    }
+
+    public BulkResult<Status> deleteSelectedPods(Map<String, String> labels, BulkResult.Listener<Status> listener) {
+        List<String> ids = new ArrayList<String>();
+        for (Pod pod : getSelectedPods(labels)) {
+            ids.add(pod.getId());
+        }
+        return deletePods(ids, listener);
+    }
+
+    public BulkResult<ReplicationController> createReplicationControllers(
+            Collection<ReplicationController> controllers) {
+        return createReplicationControllers(controllers, null);
+    }
+
+    public BulkResult<ReplicationController> createReplicationControllers(
+            Collection<ReplicationController> controllers, BulkResult.Listener<ReplicationController> listener) {
+        return bulk(controllers, ReplicationController::getId, this::createReplicationController, listener);
+    }
+
+    public BulkResult<Status> deleteReplicationControllers(Collection<String> controllerIds) {
+        return deleteReplicationControllers(controllerIds, null);
+    }
+
+    public BulkResult<Status> deleteReplicationControllers(Collection<String> controllerIds,
+            BulkResult.Listener<Status> listener) {
+        return bulk(controllerIds, Function.identity(), this::deleteReplicationController, listener);
+    }
+
+    public BulkResult<Service> createServices(Collection<Service> services) {
+        return createServices(services, null);
+    }
+
+    public BulkResult<Service> createServices(Collection<Service> services, BulkResult.Listener<Service> listener) {
+        return bulk(services, Service::getId, this::createService, listener);
+    }
+
+    public BulkResult<Status> deleteServices(Collection<String> serviceIds) {
+        return deleteServices(serviceIds, null);
+    }
+
+    public BulkResult<Status> deleteServices(Collection<String> serviceIds, BulkResult.Listener<Status> listener) {
+        return bulk(serviceIds, Function.identity(), this::deleteService, listener);
+    }
+
+    /**
+     * Apply the operation to every input with up to {@link RestFactory#getBulkConcurrency()} calls at a time on
+     * the shared bulk executor, waiting for all of them. Completed items are handed back to the calling thread,
+     * which notifies the listener. Rate limits and retries of the API apply to each call.
+     */
+    private <I, T> BulkResult<T> bulk(Collection<I> inputs, final Function<I, String> id,
+            final Function<I, T> operation, BulkResult.Listener<T> listener) {
+        final List<I> list = new ArrayList<I>(inputs);
+        final int total = list.size();
+        @SuppressWarnings("unchecked")
+        final BulkResult.Item<T>[] items = new BulkResult.Item[total];
+        if (total == 0) {
+            return new BulkResult<T>(Arrays.asList(items));
+        }
+        final AtomicInteger next = new AtomicInteger();
+        final BlockingQueue<Integer> done = new LinkedBlockingQueue<Integer>();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < total) {
+                I input = list.get(index);
+                String itemId = null;
+                try {
+                    itemId = id.apply(input);
+                    items[index] = new BulkResult.Item<T>(itemId, operation.apply(input), null);
+                } catch (Throwable t) {
+                    items[index] = new BulkResult.Item<T>(itemId, null, bulkFailure(t));
+                } finally {
+                    // the caller waits for every index
+                    done.add(index);
+                }
+            }
+        };
+        for (int i = Math.min(factory.getBulkConcurrency(), total); i > 0; i--) {
+            BULK_EXECUTOR.execute(worker);
+        }
+        for (int completed = 1; completed <= total; completed++) {
+            BulkResult.Item<T> item;
+            try {
+                item = items[done.take()];
+            } catch (InterruptedException e) {
+                // let the calls in flight finish but don't start any more
+                next.set(total);
+                Thread.currentThread().interrupt();
+                throw new KubernetesClientException("Interrupted after " + (completed - 1) + " of " + total
+                        + " operations", e);
+            }
+            if (listener != null) {
+                try {
+                    listener.itemCompleted(item, completed, total);
+                } catch (RuntimeException e) {
+                    LOG.warn("Bulk operation listener failed", e);
+                }
+            }
+        }
+        return new BulkResult<T>(Arrays.asList(items));
+    }
+
+    private static KubernetesClientException bulkFailure(Throwable t) {
+        if (t instanceof KubernetesClientException) {
+            return (KubernetesClientException) t;
+        }
+        if (t instanceof Exception) {
+            return new KubernetesClientException((Exception) t);
+        }
+        KubernetesClientException e = new KubernetesClientException("Bulk operation failed: " + t);
+        e.initCause(t);
+        return e;
+    }
+
+    private <T> T copy(T value, Class<T> type) {
+        JsonCodec codec = factory.getCodec();
+        try {
+            return codec.read(new ByteArrayInputStream(codec.write(value)), type);
+        } catch (IOException e) {
+            throw new KubernetesClientException("Unable to copy " + value, e);
+        }
+    }
+
+    private <T> ItemStream<T> stream(URIBuilder uri, Class<T> type) {
+        acquireRead();
+        ItemStream<T> stream;
+        try {
+            stream = new ItemStream<T>(getStreamingClient(), factory.createHttpContext(endpointURI, username,
+                    password), uri.build(), mapper, type);
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+        stream.open();
+        return stream;
+    }
+
+    private <T> ListPager<T> page(URIBuilder uri, final Class<T> type, final int limit) {
+        final URI base;
+        try {
+            base = uri.build();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+        return new ListPager<T>(continueToken -> {
+            URIBuilder page = new URIBuilder(base).addParameter("limit", String.valueOf(limit));
+            if (continueToken != null) {
+                page.addParameter("continue", continueToken);
+            }
+            return stream(page, type);
+        }, limit);
+    }
+
+    private <T> Publisher<T> publishList(final URIBuilder uri, final Class<T> type) {
+        return new StreamPublisher<T>(() -> {
+            final ItemStream<T> items = stream(uri, type);
+            return new StreamPublisher.Source<T>() {
+                public T next() {
+                    return items.hasNext() ? items.next() : null;
+                }
+
+                public void close() {
+                    items.close();
+                }
+            };
+        }, uri.toString());
+    }
+
+    private <T> Publisher<WatchEvent<T>> publishEvents(final String resource, final int resourceVersion,
+            final Class<T> type) {
+        final URI uri = watchURI(resource, resourceVersion);
+        return new StreamPublisher<WatchEvent<T>>(() -> {
+            acquireRead();
+            // pulled by the publisher, no watcher or thread of its own
+            final StreamWatch<T> watch = new StreamWatch<T>(getStreamingClient(), factory.createHttpContext(
+                    endpointURI, username, password), uri, mapper, type, null);
+            watch.open();
+            return new StreamPublisher.Source<WatchEvent<T>>() {
+                public WatchEvent<T> next() throws IOException {
+                    return watch.nextEvent();
+                }
+
+                public void close() {
+                    watch.close();
+                }
+            };
+        }, uri.toString());
+    }
+
+    private URI watchURI(String resource, int resourceVersion) {
+        try {
+            return resourceURI(resource).addParameter("watch", "true")
+                    .addParameter("resourceVersion", String.valueOf(resourceVersion)).build();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <T> Watch<T> watch(String resource, int resourceVersion, Class<T> type, Watcher<T> watcher) {
+        URI uri = watchURI(resource, resourceVersion);
+        acquireRead();
+        HttpClientContext context = factory.createHttpContext(endpointURI, username, password);
+        if (factory.getEngine() == RestFactory.Engine.ASYNC) {
+            Watch<T> watch = new AsyncWatch<T>(getAsyncStreamingClient(), context, uri, mapper, type, watcher);
+            watch.open();
+            return watch;
+        }
+        StreamWatch<T> watch = new StreamWatch<T>(getStreamingClient(), context, uri, mapper, type, watcher);
+        watch.open();
+        Thread thread = new Thread(watch, "kubernetes-watch-" + resource);
+        thread.setDaemon(true);
+        thread.start();
+        return watch;
+    }
+
+    /**
+     * Requests sent outside the {@link KubernetesAPI} proxy count against the read budget too.
+     */
+    private void acquireRead() {
+        RateLimiter limiter = factory.getReadRateLimiter();
+        if (limiter != null) {
+            limiter.acquire();
+        }
+    }
+
+    private URIBuilder resourceURI(String resource) {
+        return resourceURI(endpointURI, resource);
+    }
+
+    private URIBuilder selectorURI(String resource, LabelSelector labels, FieldSelector fields) {
+        return selectorURI(endpointURI, resource, labels, fields);
+    }
+
+    /**
+     * The query parameter for a selector, null to leave it out if there is none or it is empty.
+     */
+    private static String param(Object selector) {
+        String param = selector == null ? null : selector.toString();
+        return param == null || param.isEmpty() ? null : param;
+    }
+
+    static URI endpointURI(String endpointUrl) {
+        try {
+            if (endpointUrl.matches("/api/v1[a-z0-9]+")) {
+                LOG.warn("Deprecated: KubernetesApiClient endpointUrl should not include the /api/version section in "
+                        + endpointUrl);
+                return new URI(endpointUrl);
+            } else {
+                return new URI(endpointUrl + "/api/" + KubernetesAPIClientInterface.VERSION);
+            }
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static URIBuilder resourceURI(URI endpointURI, String resource) {
+        String path = endpointURI.getPath();
+        if (!path.endsWith("/")) {
+            path += "/";
+        }
+        return new URIBuilder(endpointURI).setPath(path + resource);
+    }
+
+    static URIBuilder selectorURI(URI endpointURI, String resource, LabelSelector labels, FieldSelector fields) {
+        URIBuilder uri = resourceURI(endpointURI, resource);
+        if (param(labels) != null) {
+            uri.addParameter("labels", param(labels));
+        }
+        if (param(fields) != null) {
+            uri.addParameter("fields", param(fields));
+        }
+        return uri;
+    }
+
+    private synchronized CloseableHttpClient getStreamingClient() {
+        if (streamingClient == null) {
+            streamingClient = factory.createStreamingHttpClient(endpointURI, username, password, serverCertificate);
+        }
+        return streamingClient;
+    }
+
+    private synchronized CloseableHttpAsyncClient getAsyncStreamingClient() {
+        if (asyncStreamingClient == null) {
+            asyncStreamingClient = factory.createStreamingHttpAsyncClient(endpointURI, username, password,
+                    serverCertificate);
+        }
+        return asyncStreamingClient;
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.codec.JsonCodec;
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.interfaces.KubernetesAPIAsyncClientInterface;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
+import com.google.common.base.Joiner;
+
+/**
+ * {@link KubernetesAPIAsyncClientInterface} on a non blocking HttpAsyncClient, requests in flight don't hold a
+ * thread. As in {@link KubernetesApiClient} a missing object is returned as null and a missing list as an empty
+ * list. Futures are completed from the I/O dispatcher threads, so callers should not block in their callbacks.
+ */
+public class KubernetesAsyncClient implements KubernetesAPIAsyncClientInterface, Closeable {
+
+    private final URI endpointURI;
+    private final RestFactory factory;
+    private final String username;
+    private final String password;
+    private final CloseableHttpAsyncClient client;
+    private final JsonCodec codec;
+    private final ObjectMapper mapper;
+
+    public KubernetesAsyncClient(String endpointUrl, String username, String password) {
+        this(endpointUrl, username, password, new RestFactory());
+    }
+
+    public KubernetesAsyncClient(String endpointUrl, String username, String password, RestFactory factory) {
+        this(endpointUrl, username, password, null, factory);
+    }
+
+    public KubernetesAsyncClient(String endpointUrl, String username, String password, String serverCertificate,
+            RestFactory factory) {
+        this.endpointURI = KubernetesApiClient.endpointURI(endpointUrl);
+        this.factory = factory;
+        this.username = username;
+        this.password = password;
+        this.client = factory.createHttpAsyncClient(endpointURI, username, password, serverCertificate);
+        codec = factory.getCodec();
+        mapper = factory.getJacksonConfig().getObjectMapper();
+    }
+
+    public CompletableFuture<Pod> getPod(String podId) {
+        return execute(new HttpGet(uri("pods/" + podId)), Pod.class, () -> null);
+    }
+
+    public CompletableFuture<PodList> getAllPods() {
+        return execute(new HttpGet(uri("pods")), PodList.class, PodList::new);
+    }
+
+    public CompletableFuture<PodList> getSelectedPods(Map<String, String> labels) {
+        String param = Joiner.on(",").withKeyValueSeparator("=").join(labels);
+        return execute(new HttpGet(uri(resourceURI("pods").addParameter("labels", param))), PodList.class,
+                PodList::new);
+    }
+
+    /**
+     * Get the Pods matching both a label and a field query, filtered by the server. Either can be null.
+     */
+    public CompletableFuture<PodList> getPods(LabelSelector labels, FieldSelector fields) {
+        return execute(new HttpGet(uri(selectorURI("pods", labels, fields))), PodList.class, PodList::new);
+    }
+
+    public CompletableFuture<Pod> createPod(Pod pod) {
+        return execute(withBody(new HttpPost(uri("pods")), pod), Pod.class, null);
+    }
+
+    public CompletableFuture<Status> deletePod(String podId) {
+        return execute(new HttpDelete(uri("pods/" + podId)), Status.class, null);
+    }
+
+    public CompletableFuture<ReplicationController> getReplicationController(String controllerId) {
+        return execute(new HttpGet(uri("replicationControllers/" + controllerId)), ReplicationController.class,
+                () -> null);
+    }
+
+    public CompletableFuture<ReplicationControllerList> getAllReplicationControllers() {
+        return execute(new HttpGet(uri("replicationControllers")), ReplicationControllerList.class,
+                ReplicationControllerList::new);
+    }
+
+    public CompletableFuture<ReplicationControllerList> getReplicationControllers(LabelSelector labels,
+            FieldSelector fields) {
+        return execute(new HttpGet(uri(selectorURI("replicationControllers", labels, fields))),
+                ReplicationControllerList.class, ReplicationControllerList::new);
+    }
+
+    public CompletableFuture<ReplicationController> createReplicationController(ReplicationController controller) {
+        return execute(withBody(new HttpPost(uri("replicationControllers")), controller),
+                ReplicationController.class, null);
+    }
+
+    public CompletableFuture<ReplicationController> updateReplicationController(final String controllerId,
+            final int replicas) {
+        // unlike getReplicationController a missing controller is an error here
+        CompletableFuture<ReplicationController> current = execute(new HttpGet(uri("replicationControllers/"
+                + controllerId)), ReplicationController.class, null);
+        return current.thenCompose(controller -> {
+            controller.getDesiredState().setReplicas(replicas);
+            return updateReplicationController(controllerId, controller);
+        });
+    }
+
+    public CompletableFuture<ReplicationController> updateReplicationController(String controllerId,
+            ReplicationController controller) {
+        return execute(withBody(new HttpPut(uri("replicationControllers/" + controllerId)), controller),
+                ReplicationController.class, null);
+    }
+
+    public CompletableFuture<Status> deleteReplicationController(String controllerId) {
+        return execute(new HttpDelete(uri("replicationControllers/" + controllerId)), Status.class, null);
+    }
+
+    public CompletableFuture<Service> getService(String serviceId) {
+        return execute(new HttpGet(uri("services/" + serviceId)), Service.class, () -> null);
+    }
+
+    public CompletableFuture<ServiceList> getAllServices() {
+        return execute(new HttpGet(uri("services")), ServiceList.class, ServiceList::new);
+    }
+
+    public CompletableFuture<ServiceList> getServices(LabelSelector labels, FieldSelector fields) {
+        return execute(new HttpGet(uri(selectorURI("services", labels, fields))), ServiceList.class,
+                ServiceList::new);
+    }
+
+    public CompletableFuture<Service> createService(Service service) {
+        return execute(withBody(new HttpPost(uri("services")), service), Service.class, null);
+    }
+
+    public CompletableFuture<Status> deleteService(String serviceId) {
+        return execute(new HttpDelete(uri("services/" + serviceId)), Status.class, null);
+    }
+
+    public void close() throws IOException {
+        client.close();
+    }
+
+    /**
+     * Send the request and decode the response body.
+     * 
+     * @param notFound
+     *            supplies the result for a 404, or null to fail as any other error
+     */
+    private <T> CompletableFuture<T> execute(final HttpRequestBase request, final Class<T> type,
+            final Supplier<T> notFound) {
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+        request.setHeader("Accept", ContentType.APPLICATION_JSON.getMimeType());
+        final Future<HttpResponse> response = client.execute(request,
+                factory.createHttpContext(endpointURI, username, password), new FutureCallback<HttpResponse>() {
+                    public void completed(HttpResponse response) {
+                        try {
+                            ContentEncoding.decode(response);
+                        } catch (IOException e) {
+                            failed(e);
+                            return;
+                        }
+                        int code = response.getStatusLine().getStatusCode();
+                        if (code == HttpStatus.SC_NOT_FOUND && notFound != null) {
+                            result.complete(notFound.get());
+                        } else if (code >= 300) {
+                            result.completeExceptionally(new KubernetesClientException(ResponseStatus.read(mapper,
+                                    response)));
+                        } else {
+                            try {
+                                InputStream in = response.getEntity().getContent();
+                                try {
+                                    result.complete(codec.read(in, type));
+                                } finally {
+                                    in.close();
+                                }
+                            } catch (IOException e) {
+                                result.completeExceptionally(new KubernetesClientException("Unable to read response of "
+                                        + request.getMethod() + " " + request.getURI(), e));
+                            }
+                        }
+                    }
+
+                    public void failed(Exception e) {
+                        result.completeExceptionally(new KubernetesClientException(request.getMethod() + " "
+                                + request.getURI() + " failed", e));
+                    }
+
+                    public void cancelled() {
+                        result.cancel(false);
+                    }
+                });
+        // cancelling the returned future aborts the request
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private HttpRequestBase withBody(HttpEntityEnclosingRequestBase request, Object body) {
+        try {
+            byte[] json = codec.write(body);
+            request.setEntity(new ByteArrayEntity(json, ContentType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new KubernetesClientException("Unable to serialize " + body, e);
+        }
+        return request;
+    }
+
+    private URIBuilder resourceURI(String resource) {
+        return KubernetesApiClient.resourceURI(endpointURI, resource);
+    }
+
+    private URIBuilder selectorURI(String resource, LabelSelector labels, FieldSelector fields) {
+        return KubernetesApiClient.selectorURI(endpointURI, resource, labels, fields);
+    }
+
+    private URI uri(String resource) {
+        return uri(resourceURI(resource));
+    }
+
+    private static URI uri(URIBuilder builder) {
+        try {
+            return builder.build();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
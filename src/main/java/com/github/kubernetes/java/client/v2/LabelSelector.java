@@ -0,0 +1,248 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+
+/**
+ * Label query sent to the server in the <code>labels</code> parameter, so only the matching objects are returned.
+ * Requirements are ANDed:
+ * 
+ * <pre>
+ * new LabelSelector().equal(&quot;name&quot;, &quot;frontend&quot;).in(&quot;env&quot;, &quot;prod&quot;, &quot;staging&quot;).doesNotExist(&quot;canary&quot;)
+ * </pre>
+ * 
+ * encodes as <code>name=frontend,env in (prod,staging),!canary</code>. As on the server a label that is not set
+ * matches <code>!=</code> and <code>notin</code>.
+ */
+public class LabelSelector {
+
+    private static final Pattern KEY = Pattern.compile("[A-Za-z0-9]([-A-Za-z0-9_./]*[A-Za-z0-9])?");
+    private static final Pattern VALUE = Pattern.compile("([A-Za-z0-9]([-A-Za-z0-9_.]*[A-Za-z0-9])?)?");
+
+    private static final Pattern SET = Pattern.compile("\\s*(\\S+)\\s+(in|notin)\\s*\\((.*)\\)\\s*");
+    private static final Pattern COMPARISON = Pattern.compile("\\s*([^!=\\s]+)\\s*(!=|==|=)\\s*(\\S*)\\s*");
+    private static final Pattern NOT_EXISTS = Pattern.compile("\\s*!\\s*(\\S+)\\s*");
+
+    enum Operator {
+        EQUALS, NOT_EQUALS, IN, NOT_IN, EXISTS, DOES_NOT_EXIST
+    }
+
+    private static final class Requirement {
+        final String key;
+        final Operator operator;
+        final Set<String> values;
+
+        Requirement(String key, Operator operator, Set<String> values) {
+            this.key = key;
+            this.operator = operator;
+            this.values = values;
+        }
+
+        boolean matches(Map<String, String> labels) {
+            String value = labels == null ? null : labels.get(key);
+            switch (operator) {
+            case EQUALS:
+            case IN:
+                return value != null && values.contains(value);
+            case NOT_EQUALS:
+            case NOT_IN:
+                return value == null || !values.contains(value);
+            case EXISTS:
+                return value != null;
+            default:
+                return value == null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            switch (operator) {
+            case EQUALS:
+                return key + "=" + values.iterator().next();
+            case NOT_EQUALS:
+                return key + "!=" + values.iterator().next();
+            case IN:
+                return key + " in (" + Joiner.on(',').join(values) + ")";
+            case NOT_IN:
+                return key + " notin (" + Joiner.on(',').join(values) + ")";
+            case EXISTS:
+                return key;
+            default:
+                return "!" + key;
+            }
+        }
+    }
+
+    private final List<Requirement> requirements = new ArrayList<Requirement>();
+
+    /**
+     * The equality selector built by {@link KubernetesApiClient#getSelectedPods(Map)}.
+     */
+    public static LabelSelector of(Map<String, String> labels) {
+        LabelSelector selector = new LabelSelector();
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            selector.equal(label.getKey(), label.getValue());
+        }
+        return selector;
+    }
+
+    /**
+     * Parse the <code>labels</code> parameter syntax, as produced by {@link #toString()}.
+     * 
+     * @throws IllegalArgumentException
+     *             if it is not a valid selector
+     */
+    public static LabelSelector parse(String selector) {
+        LabelSelector result = new LabelSelector();
+        if (selector == null || selector.trim().isEmpty()) {
+            return result;
+        }
+        for (String term : splitTerms(selector)) {
+            Matcher m;
+            if ((m = SET.matcher(term)).matches()) {
+                String[] values = Splitter.on(',').trimResults().splitToList(m.group(3)).toArray(new String[0]);
+                if ("in".equals(m.group(2))) {
+                    result.in(m.group(1), values);
+                } else {
+                    result.notIn(m.group(1), values);
+                }
+            } else if ((m = COMPARISON.matcher(term)).matches()) {
+                if ("!=".equals(m.group(2))) {
+                    result.notEqual(m.group(1), m.group(3));
+                } else {
+                    result.equal(m.group(1), m.group(3));
+                }
+            } else if ((m = NOT_EXISTS.matcher(term)).matches()) {
+                result.doesNotExist(m.group(1));
+            } else {
+                result.exists(term.trim());
+            }
+        }
+        return result;
+    }
+
+    public LabelSelector equal(String key, String value) {
+        return add(key, Operator.EQUALS, value);
+    }
+
+    public LabelSelector notEqual(String key, String value) {
+        return add(key, Operator.NOT_EQUALS, value);
+    }
+
+    /**
+     * The label is set to one of the values.
+     */
+    public LabelSelector in(String key, String... values) {
+        return add(key, Operator.IN, values);
+    }
+
+    /**
+     * The label is not set or set to none of the values.
+     */
+    public LabelSelector notIn(String key, String... values) {
+        return add(key, Operator.NOT_IN, values);
+    }
+
+    public LabelSelector exists(String key) {
+        return add(key, Operator.EXISTS);
+    }
+
+    public LabelSelector doesNotExist(String key) {
+        return add(key, Operator.DOES_NOT_EXIST);
+    }
+
+    public boolean isEmpty() {
+        return requirements.isEmpty();
+    }
+
+    /**
+     * Whether objects with these labels, which may be null, are selected.
+     */
+    public boolean matches(Map<String, String> labels) {
+        for (Requirement requirement : requirements) {
+            if (!requirement.matches(labels)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The value of the <code>labels</code> query parameter.
+     */
+    @Override
+    public String toString() {
+        return Joiner.on(',').join(requirements);
+    }
+
+    private LabelSelector add(String key, Operator operator, String... values) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid label key: " + key);
+        }
+        if ((operator == Operator.IN || operator == Operator.NOT_IN) && values.length == 0) {
+            throw new IllegalArgumentException("No values for " + key + " " + operator);
+        }
+        for (String value : values) {
+            if (value == null || !VALUE.matcher(value).matches()) {
+                throw new IllegalArgumentException("Invalid value for label " + key + ": " + value);
+            }
+        }
+        // sorted so equal selectors encode the same, eg. for the response cache
+        Set<String> set = values.length == 0 ? Collections.<String> emptySet() : new TreeSet<String>(
+                Arrays.asList(values));
+        requirements.add(new Requirement(key, operator, set));
+        return this;
+    }
+
+    /**
+     * Split on the commas outside of parentheses.
+     */
+    private static List<String> splitTerms(String selector) {
+        List<String> terms = new ArrayList<String>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                terms.add(selector.substring(start, i));
+                start = i + 1;
+            }
+        }
+        terms.add(selector.substring(start));
+        return terms;
+    }
+}
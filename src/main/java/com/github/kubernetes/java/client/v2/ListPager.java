@@ -0,0 +1,223 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * The items of a list retrieved in pages of at most <code>limit</code> items, following the <code>continue</code>
+ * token of each page. The next page is requested in the background as soon as the current one has been received,
+ * so it is usually ready by the time the current one has been consumed, and at most two pages are held in memory.
+ * <p>
+ * If the server ignores the <code>limit</code> the first response has more items than asked for, and the rest of
+ * it is read one item at a time as with {@link ItemStream}, without requesting it again. {@link #isPaged()} tells
+ * which one happened.
+ * <p>
+ * Pages are requested on a shared executor, a virtual thread each on Java 21 or a daemon thread from a cached pool
+ * before that. Not thread safe, and must be closed if not fully consumed.
+ */
+public class ListPager<T> implements Iterator<T>, Closeable {
+
+    private static final Executor EXECUTOR = VirtualThreads.isAvailable() ? VirtualThreads.newExecutor()
+            : Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("kubernetes-pager-%d")
+                    .setDaemon(true).build());
+
+    private static class Page<T> {
+        final List<T> items;
+        final String continueToken;
+
+        Page(List<T> items, String continueToken) {
+            this.items = items;
+            this.continueToken = continueToken;
+        }
+    }
+
+    private final Function<String, ItemStream<T>> pages;
+    private final int limit;
+
+    private Iterator<T> current = Collections.<T> emptyIterator();
+    /** the rest of the first response, if the server ignored the limit */
+    private ItemStream<T> stream;
+    private CompletableFuture<Page<T>> next;
+    /** the response being read in the background, to abort it on close */
+    private volatile ItemStream<T> fetching;
+    private volatile boolean closed;
+    private int resourceVersion;
+    private int pageCount;
+    private boolean paged;
+
+    /**
+     * Requests the first page.
+     * 
+     * @param pages
+     *            opens the response with the page starting at a <code>continue</code> token, null for the first
+     */
+    ListPager(Function<String, ItemStream<T>> pages, int limit) throws KubernetesClientException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        this.pages = pages;
+        this.limit = limit;
+        ItemStream<T> items = pages.apply(null);
+        List<T> page = new ArrayList<T>();
+        try {
+            while (page.size() <= limit && items.hasNext()) {
+                page.add(items.next());
+            }
+        } catch (RuntimeException e) {
+            items.close();
+            throw e;
+        }
+        resourceVersion = items.getResourceVersion();
+        pageCount = 1;
+        current = page.iterator();
+        if (page.size() > limit) {
+            // the server sent everything, keep reading the same response
+            stream = items;
+        } else {
+            paged = items.getContinue() != null;
+            prefetch(items.getContinue());
+        }
+    }
+
+    /**
+     * The resourceVersion of the first page.
+     */
+    public int getResourceVersion() {
+        return resourceVersion;
+    }
+
+    /**
+     * Whether the server honoured the <code>limit</code> and sent more than one page.
+     */
+    public boolean isPaged() {
+        return paged;
+    }
+
+    /**
+     * The pages received so far, including the one being consumed.
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public boolean hasNext() {
+        while (!closed) {
+            if (current.hasNext()) {
+                return true;
+            }
+            if (stream != null) {
+                return stream.hasNext();
+            }
+            if (next == null) {
+                return false;
+            }
+            Page<T> page = take();
+            pageCount++;
+            current = page.items.iterator();
+            prefetch(page.continueToken);
+        }
+        return false;
+    }
+
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.hasNext() ? current.next() : stream.next();
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * A sequential {@link Stream} over the remaining items, closing it closes this.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    public void close() {
+        closed = true;
+        current = Collections.<T> emptyIterator();
+        if (stream != null) {
+            stream.close();
+        }
+        ItemStream<T> items = fetching;
+        if (items != null) {
+            items.close();
+        }
+    }
+
+    private void prefetch(final String continueToken) {
+        next = continueToken == null ? null : CompletableFuture.supplyAsync(() -> fetch(continueToken), EXECUTOR);
+    }
+
+    private Page<T> fetch(String continueToken) {
+        ItemStream<T> items = pages.apply(continueToken);
+        fetching = items;
+        try {
+            if (closed) {
+                return new Page<T>(Collections.<T> emptyList(), null);
+            }
+            List<T> page = new ArrayList<T>(limit);
+            while (items.hasNext()) {
+                page.add(items.next());
+            }
+            return new Page<T>(page, items.getContinue());
+        } finally {
+            fetching = null;
+            items.close();
+        }
+    }
+
+    private Page<T> take() {
+        try {
+            return next.join();
+        } catch (CompletionException e) {
+            next = null;
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
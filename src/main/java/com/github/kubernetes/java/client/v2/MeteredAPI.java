@@ -0,0 +1,92 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import com.github.kubernetes.java.client.metrics.MetricsRecorder;
+
+/**
+ * Wraps a {@link KubernetesAPI} reporting each call to a {@link MetricsRecorder}, named after the called method.
+ * Status and body sizes are collected by the {@link MetricsFilter} registered on the same client. Calls are timed
+ * inline, so measuring does not allocate.
+ */
+class MeteredAPI implements InvocationHandler {
+
+    private final KubernetesAPI api;
+    private final MetricsRecorder recorder;
+
+    private MeteredAPI(KubernetesAPI api, MetricsRecorder recorder) {
+        this.api = api;
+        this.recorder = recorder;
+    }
+
+    static KubernetesAPI wrap(KubernetesAPI api, MetricsRecorder recorder) {
+        return (KubernetesAPI) Proxy.newProxyInstance(KubernetesAPI.class.getClassLoader(),
+                new Class<?>[] { KubernetesAPI.class }, new MeteredAPI(api, recorder));
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(api, args);
+        }
+        MetricsFilter.Call call = MetricsFilter.begin();
+        long start = System.nanoTime();
+        try {
+            return method.invoke(api, args);
+        } catch (InvocationTargetException e) {
+            failed(call, e.getCause());
+            throw e.getCause();
+        } finally {
+            end(recorder, method.getName(), call, start);
+        }
+    }
+
+    /**
+     * Take the status of a call that failed before the response filter saw it.
+     */
+    static void failed(MetricsFilter.Call call, Throwable cause) {
+        if (call.status == 0 && cause instanceof WebApplicationException) {
+            Response response = ((WebApplicationException) cause).getResponse();
+            if (response != null) {
+                call.status = response.getStatus();
+            }
+        }
+    }
+
+    /**
+     * Report the call started at <code>start</code> as <code>name</code>.
+     */
+    static void end(MetricsRecorder recorder, String name, MetricsFilter.Call call, long start) {
+        long latency = System.nanoTime() - start;
+        int status = call.status;
+        long bytesOut = call.out.count;
+        long bytesIn = call.in.count;
+        MetricsFilter.end(call);
+        recorder.record(name, status, latency, bytesOut, bytesIn);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Collects the response status and body sizes of the call being measured by {@link MeteredAPI} on the current
+ * thread. The measurements and the counting streams are reused for every call of a thread, so measuring does not
+ * allocate.
+ */
+class MetricsFilter implements ClientResponseFilter, WriterInterceptor {
+
+    private static final ThreadLocal<Call> CALLS = ThreadLocal.withInitial(Call::new);
+
+    static Call begin() {
+        Call call = CALLS.get();
+        call.active = true;
+        call.status = 0;
+        call.out.count = 0;
+        call.in.count = 0;
+        return call;
+    }
+
+    /**
+     * @return the call being measured on this thread, or null
+     */
+    static Call active() {
+        Call call = CALLS.get();
+        return call.active ? call : null;
+    }
+
+    static void end(Call call) {
+        call.active = false;
+        call.in.reset(null);
+        call.out.reset(null);
+    }
+
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        Call call = CALLS.get();
+        if (call.active) {
+            call.status = responseContext.getStatus();
+            if (responseContext.hasEntity()) {
+                responseContext.setEntityStream(call.in.reset(responseContext.getEntityStream()));
+            }
+        }
+    }
+
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        Call call = CALLS.get();
+        if (call.active) {
+            context.setOutputStream(call.out.reset(context.getOutputStream()));
+        }
+        context.proceed();
+    }
+
+    static final class Call {
+        private boolean active;
+        int status;
+        final CountingInputStream in = new CountingInputStream();
+        final CountingOutputStream out = new CountingOutputStream();
+    }
+
+    static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream() {
+            super(null);
+        }
+
+        CountingInputStream reset(InputStream in) {
+            this.in = in;
+            return this;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream() {
+            super(null);
+        }
+
+        CountingOutputStream reset(OutputStream out) {
+            this.out = out;
+            return this;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
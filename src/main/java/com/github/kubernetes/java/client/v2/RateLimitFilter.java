@@ -0,0 +1,58 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+/**
+ * Waits for the read or mutation {@link RateLimiter} before each request. The time waited is available in the
+ * request property {@link #WAIT_PROPERTY}.
+ */
+public class RateLimitFilter implements ClientRequestFilter {
+
+    public static final String WAIT_PROPERTY = "kubernetes.rateLimiter.waitNanos";
+
+    private final RateLimiter reads;
+    private final RateLimiter mutations;
+
+    /**
+     * @param reads
+     *            limiter for GET and HEAD requests, or null
+     * @param mutations
+     *            limiter for any other request, or null
+     */
+    public RateLimitFilter(RateLimiter reads, RateLimiter mutations) {
+        this.reads = reads;
+        this.mutations = mutations;
+    }
+
+    public void filter(ClientRequestContext requestContext) {
+        RateLimiter limiter = isRead(requestContext.getMethod()) ? reads : mutations;
+        if (limiter != null) {
+            requestContext.setProperty(WAIT_PROPERTY, limiter.acquire());
+        }
+    }
+
+    static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+}
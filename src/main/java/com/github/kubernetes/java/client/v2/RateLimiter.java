@@ -0,0 +1,151 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+
+/**
+ * Token bucket limiting calls to <code>qps</code> per second on average, allowing bursts of up to
+ * <code>burst</code> calls. Callers over the limit wait for their turn.
+ * <p>
+ * The bucket is kept as the time the next call is due (the generic cell rate algorithm), updated with a single
+ * compare-and-set, so acquiring never takes a lock. One limiter can be shared by several clients to give them a
+ * common budget.
+ */
+public class RateLimiter {
+
+    /**
+     * Notified of every acquisition, with the time it waited.
+     */
+    public interface Listener {
+        public void acquired(RateLimiter limiter, long waitNanos);
+    }
+
+    private final double qps;
+    private final int burst;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong nextDue;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private volatile Listener listener;
+
+    public RateLimiter(double qps, int burst) {
+        if (qps <= 0 || burst < 1) {
+            throw new IllegalArgumentException("qps must be positive and burst at least 1");
+        }
+        this.qps = qps;
+        this.burst = burst;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / qps);
+        this.burstNanos = intervalNanos * burst;
+        this.nextDue = new AtomicLong(System.nanoTime());
+    }
+
+    public RateLimiter listener(Listener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Take a token, waiting until one is available.
+     * 
+     * @return nanoseconds waited
+     * @throws KubernetesClientException
+     *             if interrupted while waiting
+     */
+    public long acquire() throws KubernetesClientException {
+        long wait = reserve();
+        if (wait > 0) {
+            throttled.increment();
+            waitNanos.add(wait);
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KubernetesClientException("Interrupted waiting for rate limiter");
+            }
+        }
+        acquired.increment();
+        Listener l = listener;
+        if (l != null) {
+            l.acquired(this, wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Take a token without waiting for it.
+     * 
+     * @return nanoseconds until the token can be used, 0 if it can be used now
+     */
+    public long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long due = nextDue.get();
+            long next = (due - now > 0 ? due : now) + intervalNanos;
+            if (nextDue.compareAndSet(due, next)) {
+                long wait = next - now - burstNanos;
+                return wait > 0 ? wait : 0;
+            }
+        }
+    }
+
+    public double getQps() {
+        return qps;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Number of tokens handed out.
+     */
+    public long getAcquired() {
+        return acquired.sum();
+    }
+
+    /**
+     * Number of acquisitions that had to wait.
+     */
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    /**
+     * Total time spent waiting for tokens.
+     */
+    public long getWaitTime(TimeUnit unit) {
+        return unit.convert(waitNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter [qps=" + qps + ", burst=" + burst + ", acquired=" + getAcquired() + ", throttled="
+                + getThrottled() + "]";
+    }
+}
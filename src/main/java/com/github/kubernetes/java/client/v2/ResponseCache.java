@@ -0,0 +1,191 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kubernetes.java.client.model.AbstractKubernetesModel;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Last response of each GET URI, decoded, kept so unchanged objects are not parsed again. Every request still
+ * goes to the server: it is revalidated with <code>If-None-Match</code> and <code>If-Modified-Since</code> when
+ * the server sent an <code>ETag</code> or <code>Last-Modified</code>, and a <code>304 Not Modified</code> returns
+ * the cached object. Without those headers the <code>resourceVersion</code> of the new body is compared with the
+ * cached one before decoding it, and the cached object returned if it is the same.
+ * <p>
+ * The cache holds up to a maximum number of responses, evicting the least recently used. Cached objects are
+ * returned to every caller getting the same URI, so they must not be modified.
+ * 
+ * <pre>
+ * ResponseCache cache = new ResponseCache(1000);
+ * new RestFactory().responseCache(cache);
+ * </pre>
+ */
+public class ResponseCache {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final Cache<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * A cached response.
+     */
+    static final class Entry {
+        final Class<?> type;
+        final Object value;
+        final String etag;
+        final String lastModified;
+        final int resourceVersion;
+
+        Entry(Class<?> type, Object value, String etag, String lastModified) {
+            this.type = type;
+            this.value = value;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.resourceVersion = value instanceof AbstractKubernetesModel ? ((AbstractKubernetesModel) value)
+                    .getResourceVersion() : 0;
+        }
+
+        boolean isValidatable() {
+            return etag != null || lastModified != null || resourceVersion > 0;
+        }
+    }
+
+    /**
+     * Used to decode a response that was not in the cache or changed.
+     */
+    interface Decoder {
+        Object decode(InputStream in) throws IOException;
+    }
+
+    public ResponseCache(int maxEntries) {
+        entries = CacheBuilder.newBuilder().maximumSize(maxEntries).recordStats().build();
+    }
+
+    /**
+     * Responses revalidated and returned from the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Responses decoded, because they were not cached or changed.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Responses dropped to stay under the maximum size.
+     */
+    public long getEvictionCount() {
+        return entries.stats().evictionCount();
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    public void invalidate(String uri) {
+        entries.invalidate(uri);
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    Entry get(String uri) {
+        return entries.getIfPresent(uri);
+    }
+
+    /**
+     * The server answered <code>304 Not Modified</code> to the revalidation of the entry.
+     */
+    Object notModified(Entry entry) {
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Decode a successful GET response, or return the cached object if its resourceVersion didn't change.
+     * 
+     * @param cached
+     *            the entry that was revalidated, or null
+     */
+    Object read(String uri, Entry cached, Class<?> type, InputStream in, String etag, String lastModified,
+            Decoder decoder) throws IOException {
+        if (cached != null && cached.type == type && cached.resourceVersion > 0) {
+            byte[] body = ByteStreams.toByteArray(in);
+            if (resourceVersion(body) == cached.resourceVersion) {
+                hits.increment();
+                if (etag != null || lastModified != null) {
+                    entries.put(uri, new Entry(type, cached.value, etag, lastModified));
+                }
+                return cached.value;
+            }
+            in = new ByteArrayInputStream(body);
+        }
+        Object value = decoder.decode(in);
+        misses.increment();
+        Entry entry = new Entry(type, value, etag, lastModified);
+        if (value != null && entry.isValidatable()) {
+            entries.put(uri, entry);
+        } else {
+            entries.invalidate(uri);
+        }
+        return value;
+    }
+
+    /**
+     * The top level <code>resourceVersion</code> of a JSON object, 0 if missing, without decoding the rest.
+     */
+    static int resourceVersion(byte[] json) throws IOException {
+        JsonParser parser = JSON.createParser(json);
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return 0;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("resourceVersion".equals(field)) {
+                    return parser.getValueAsInt();
+                }
+                parser.skipChildren();
+            }
+            return 0;
+        } finally {
+            parser.close();
+        }
+    }
+}
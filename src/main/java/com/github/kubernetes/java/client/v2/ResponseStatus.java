@@ -0,0 +1,67 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.exceptions.Status;
+
+/**
+ * Reads the {@link Status} the API server sends with error responses.
+ */
+final class ResponseStatus {
+
+    private static final Log LOG = LogFactory.getLog(ResponseStatus.class);
+
+    private ResponseStatus() {
+    }
+
+    /**
+     * The {@link Status} in the response body, or one built from the status line if the body is not a Status.
+     */
+    static Status read(ObjectMapper mapper, HttpResponse response) {
+        HttpEntity entity = response.getEntity();
+        if (entity != null) {
+            try {
+                InputStream in = entity.getContent();
+                try {
+                    return mapper.readValue(in, Status.class);
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                LOG.debug("Response is not a Status", e);
+            }
+        }
+        Status status = new Status();
+        status.setStatus("Failure");
+        status.setCode(response.getStatusLine().getStatusCode());
+        status.setMessage(response.getStatusLine().getReasonPhrase());
+        return status;
+    }
+}
@@ -1,20 +1,40 @@
 package com.github.kubernetes.java.client.v2;
 
-import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.AuthCache;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.SSLContextBuilder;
 import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.BasicAuthCache;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.ssl.SSLContextBuilder;
 import org.bouncycastle.openssl.PEMReader;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
 import org.jboss.resteasy.client.jaxrs.ProxyBuilder;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
 import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
@@ -30,11 +50,72 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+
+import com.github.kubernetes.java.client.codec.AfterburnerCodec;
+import com.github.kubernetes.java.client.codec.GeneratedCodec;
+import com.github.kubernetes.java.client.codec.JacksonCodec;
+import com.github.kubernetes.java.client.codec.JsonCodec;
+import com.github.kubernetes.java.client.metrics.MetricsRecorder;
 
 public class RestFactory {
 
+    /**
+     * HTTP transport used by the clients.
+     */
+    public enum Engine {
+        /** Apache HttpClient, one thread per request in flight */
+        BLOCKING,
+        /**
+         * Apache HttpAsyncClient. Calls still block the caller until the response arrives and read the whole body
+         * into memory before decoding it, only watches are read without holding a thread
+         */
+        ASYNC
+    }
+
+    /**
+     * Implementation of the {@link KubernetesAPI} returned by {@link RestFactory#createAPI(URI, String, String)}.
+     */
+    public enum Implementation {
+        /** RESTEasy client proxy */
+        PROXY,
+        /**
+         * Calls written directly on HttpClient, with no reflection, dynamic proxies or JAX-RS providers, always
+         * blocking
+         */
+        DIRECT
+    }
+
+    /** Drops the <code>Accept-Encoding</code> RESTEasy adds to every request when compression is off */
+    private static final HttpRequestInterceptor IDENTITY_ENCODING = (request, context) -> request
+            .removeHeaders("Accept-Encoding");
+
     private ClassLoader classLoader;
     private int connectionPoolSize;
+    private Engine engine = Engine.BLOCKING;
+    private Implementation implementation = Implementation.PROXY;
+
+    private int maxConnectionsPerRoute;
+    private int maxConnectionsTotal;
+    private long connectionTimeToLive = -1;
+    private long maxIdleTime;
+    private int validateAfterInactivity = 2000;
+    private int connectTimeout = -1;
+    private int socketTimeout = -1;
+    private int connectionRequestTimeout = -1;
+    private ConnectionKeepAliveStrategy keepAliveStrategy;
+    private RateLimiter readRateLimiter;
+    private RateLimiter mutationRateLimiter;
+    private RetryPolicy retryPolicy = new RetryPolicy();
+    private boolean coalesceReads;
+    private boolean gzip;
+    private int bulkConcurrency = 10;
+    private ResponseCache responseCache;
+    private MetricsRecorder metrics;
+    private JacksonConfig jacksonConfig = JacksonConfig.getDefault();
+    private JsonCodec codec;
 
     public RestFactory() {
     }
@@ -48,57 +129,485 @@ public class RestFactory {
         return this;
     }
 
+    /**
+     * Size of the connection pool, used for both {@link #maxConnectionsPerRoute(int)} and
+     * {@link #maxConnectionsTotal(int)} when those are not set. All requests go to the same API server, so this
+     * is the number of requests that can be in flight at the same time.
+     */
     public RestFactory connectionPoolSize(int connectionPoolSize) {
         this.connectionPoolSize = connectionPoolSize;
         return this;
     }
 
-    public KubernetesAPI createAPI(URI uri, String userName, String password, String serverCertificate) {
+    /**
+     * Maximum connections to the same host, HttpClient defaults to 2.
+     */
+    public RestFactory maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
 
-        // Configure HttpClient to authenticate preemptively
-        // by prepopulating the authentication data cache.
-        // http://docs.jboss.org/resteasy/docs/3.0.9.Final/userguide/html/RESTEasy_Client_Framework.html#transport_layer
-        // http://hc.apache.org/httpcomponents-client-4.2.x/tutorial/html/authentication.html#d5e1032
+    /**
+     * Maximum connections in the pool, HttpClient defaults to 20.
+     */
+    public RestFactory maxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        return this;
+    }
+
+    /**
+     * Close pooled connections after this time, regardless of keep-alive. By default they live forever.
+     */
+    public RestFactory connectionTimeToLive(long timeToLive, TimeUnit unit) {
+        this.connectionTimeToLive = unit.toMillis(timeToLive);
+        return this;
+    }
+
+    /**
+     * Close connections idle in the pool for longer than this, from a background thread. Only applies to the
+     * {@link Engine#BLOCKING} engine, the async I/O reactor notices connections closed by the server by itself.
+     */
+    public RestFactory evictIdleConnections(long maxIdleTime, TimeUnit unit) {
+        this.maxIdleTime = unit.toMillis(maxIdleTime);
+        return this;
+    }
+
+    /**
+     * Check that a pooled connection is still open before reusing it if it was idle for longer than this, 2
+     * seconds by default. Only applies to the {@link Engine#BLOCKING} engine.
+     */
+    public RestFactory validateAfterInactivity(int milliseconds) {
+        this.validateAfterInactivity = milliseconds;
+        return this;
+    }
+
+    /**
+     * Timeout establishing a connection, in milliseconds.
+     */
+    public RestFactory connectTimeout(int milliseconds) {
+        this.connectTimeout = milliseconds;
+        return this;
+    }
+
+    /**
+     * Timeout waiting for data, in milliseconds. Not applied to watches, which wait for events indefinitely.
+     */
+    public RestFactory socketTimeout(int milliseconds) {
+        this.socketTimeout = milliseconds;
+        return this;
+    }
+
+    /**
+     * Timeout waiting for a connection from the pool, in milliseconds.
+     */
+    public RestFactory connectionRequestTimeout(int milliseconds) {
+        this.connectionRequestTimeout = milliseconds;
+        return this;
+    }
+
+    /**
+     * How long connections can be kept alive, by default as long as the server <code>Keep-Alive</code> header
+     * says or forever.
+     */
+    public RestFactory keepAliveStrategy(ConnectionKeepAliveStrategy keepAliveStrategy) {
+        this.keepAliveStrategy = keepAliveStrategy;
+        return this;
+    }
+
+    public RestFactory engine(Engine engine) {
+        this.engine = engine;
+        return this;
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Limit the rate of calls, with separate budgets for reads (GET) and mutations (POST, PUT, DELETE). Either
+     * can be null for no limit. The same limiters can be given to several factories to share the budget.
+     */
+    public RestFactory rateLimiters(RateLimiter reads, RateLimiter mutations) {
+        this.readRateLimiter = reads;
+        this.mutationRateLimiter = mutations;
+        return this;
+    }
+
+    public RateLimiter getReadRateLimiter() {
+        return readRateLimiter;
+    }
+
+    public RateLimiter getMutationRateLimiter() {
+        return mutationRateLimiter;
+    }
+
+    /**
+     * Retry failed calls according to the given policy, null to disable retries.
+     */
+    public RestFactory retryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Let concurrent identical GET calls from a {@link KubernetesApiClient} share one request and its decoded
+     * result. Results are then shared between callers and must be treated as read only.
+     */
+    public RestFactory coalesceReads(boolean coalesceReads) {
+        this.coalesceReads = coalesceReads;
+        return this;
+    }
+
+    public boolean isCoalesceReads() {
+        return coalesceReads;
+    }
+
+    /**
+     * Send <code>Accept-Encoding: gzip, deflate</code> so the server can compress responses, which are then
+     * decompressed as they are parsed. Large lists compress several fold, worth it on slow links to the API
+     * server but only extra CPU on a local network, so it is off by default. Async watches never ask for
+     * compression.
+     */
+    public RestFactory gzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    /**
+     * Maximum calls in flight for the bulk operations of {@link KubernetesApiClient}, 10 by default. Calls beyond
+     * the size of the connection pool wait for a connection, so raise both together.
+     */
+    public RestFactory bulkConcurrency(int bulkConcurrency) {
+        if (bulkConcurrency < 1) {
+            throw new IllegalArgumentException("bulkConcurrency must be at least 1: " + bulkConcurrency);
+        }
+        this.bulkConcurrency = bulkConcurrency;
+        return this;
+    }
+
+    public int getBulkConcurrency() {
+        return bulkConcurrency;
+    }
+
+    /**
+     * Keep the last response of each GET in the given cache, revalidated on every call so unchanged objects are
+     * not parsed again. Can be shared by several factories. Only used by the {@link KubernetesAPI}, not by watches,
+     * streamed lists or the async client.
+     */
+    public RestFactory responseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return this;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Report every call of the created APIs to the given recorder, eg. a
+     * {@link com.github.kubernetes.java.client.metrics.ClientMetrics}. Retried calls are reported once per attempt.
+     */
+    public RestFactory metrics(MetricsRecorder metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public MetricsRecorder getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Use the given mapper for the clients created by this factory instead of the process wide one. It should be
+     * configured like {@link JacksonConfig#createObjectMapper()}, and can be shared by several factories.
+     */
+    public RestFactory objectMapper(ObjectMapper objectMapper) {
+        this.jacksonConfig = new JacksonConfig(objectMapper);
+        return this;
+    }
+
+    public JacksonConfig getJacksonConfig() {
+        return jacksonConfig;
+    }
+
+    /**
+     * Encode and decode request and response bodies with the given codec, eg. an {@link AfterburnerCodec}, instead
+     * of a {@link JacksonCodec} using {@link #getJacksonConfig()}. Streamed lists and watches are still decoded
+     * with Jackson.
+     */
+    public RestFactory codec(JsonCodec codec) {
+        this.codec = codec;
+        return this;
+    }
 
+    /**
+     * The codec set with {@link #codec(JsonCodec)}, by default a {@link GeneratedCodec} when the model codecs were
+     * generated and no custom {@link #objectMapper(ObjectMapper)} is used, else a {@link JacksonCodec}.
+     */
+    public JsonCodec getCodec() {
+        if (codec != null) {
+            return codec;
+        }
+        if (jacksonConfig == JacksonConfig.getDefault() && GeneratedCodec.isAvailable()) {
+            return new GeneratedCodec(jacksonConfig);
+        }
+        return new JacksonCodec(jacksonConfig);
+    }
+
+    public RestFactory implementation(Implementation implementation) {
+        this.implementation = implementation;
+        return this;
+    }
+
+    public Implementation getImplementation() {
+        return implementation;
+    }
+
+    public KubernetesAPI createAPI(final URI uri, final String userName, final String password,
+            String serverCertificate) {
+        KubernetesAPI api;
+        if (implementation == Implementation.DIRECT) {
+            CloseableHttpClient httpclient = createHttpClient(uri, userName, password, serverCertificate);
+            api = new DirectKubernetesAPI(httpclient, () -> createHttpContext(uri, userName, password), uri,
+                    getCodec(), jacksonConfig.getObjectMapper(), readRateLimiter, mutationRateLimiter,
+                    responseCache, retryPolicy, metrics);
+            // retries and metrics are built in, no proxies
+            return api;
+        }
+        api = createProxy(uri, userName, password, serverCertificate);
+        if (metrics != null) {
+            api = MeteredAPI.wrap(api, metrics);
+        }
+        return retryPolicy == null ? api : RetryingAPI.wrap(api, retryPolicy);
+    }
+
+    private KubernetesAPI createProxy(final URI uri, final String userName, final String password,
+            String serverCertificate) {
+        // 4. Create client executor and proxy
+        ClientHttpEngine httpEngine;
+        if (engine == Engine.ASYNC) {
+            CloseableHttpAsyncClient httpclient = createHttpAsyncClient(uri, userName, password, serverCertificate);
+            httpEngine = new ApacheHttpAsyncClient4Engine(httpclient, () -> createHttpContext(uri, userName,
+                    password), createSSLContext(uri, serverCertificate));
+        } else {
+            CloseableHttpClient httpclient = createHttpClient(uri, userName, password, serverCertificate);
+            HttpClientContext context = createHttpContext(uri, userName, password);
+            httpEngine = new ApacheHttpClient4Engine(httpclient, context);
+        }
+        // pool settings are applied to the HttpClient, RESTEasy ignores its own when given an engine
+        ResteasyClient client = new ResteasyClientBuilder().httpEngine(httpEngine).build();
+
+        client.register(new CodecProvider(getCodec()));
+        if (readRateLimiter != null || mutationRateLimiter != null) {
+            client.register(new RateLimitFilter(readRateLimiter, mutationRateLimiter));
+        }
+        if (metrics != null) {
+            client.register(new MetricsFilter());
+        }
+        if (responseCache != null) {
+            client.register(new CacheFilter(responseCache));
+        }
+        ProxyBuilder<KubernetesAPI> proxyBuilder = client.target(uri).proxyBuilder(KubernetesAPI.class);
+        if (classLoader != null) {
+            proxyBuilder = proxyBuilder.classloader(classLoader);
+        }
+        return proxyBuilder.build();
+    }
+
+    /**
+     * Create the {@link CloseableHttpClient} used to talk to the API server, with the credentials and server
+     * certificate configured. Callers that need direct access to the response stream (eg. watches) use this
+     * instead of the {@link KubernetesAPI} proxy.
+     */
+    public CloseableHttpClient createHttpClient(URI uri, String userName, String password, String serverCertificate) {
+        return createHttpClientBuilder(uri, userName, password, serverCertificate, false).build();
+    }
+
+    /**
+     * Create a client for long lived streams, without socket timeout or pool limits since each open stream
+     * holds a connection.
+     */
+    CloseableHttpClient createStreamingHttpClient(URI uri, String userName, String password,
+            String serverCertificate) {
+        return createHttpClientBuilder(uri, userName, password, serverCertificate, true).build();
+    }
+
+    private HttpClientBuilder createHttpClientBuilder(URI uri, String userName, String password,
+            String serverCertificate, boolean streaming) {
         HttpHost targetHost = new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
 
+        SSLContext sslContext = createSSLContext(uri, serverCertificate);
+        SSLConnectionSocketFactory sslsf = sslContext == null ? SSLConnectionSocketFactory.getSocketFactory()
+                : new SSLConnectionSocketFactory(sslContext);
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory> create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory()).register("https", sslsf).build();
 
-        SSLConnectionSocketFactory sslsf = null;
-        if (serverCertificate != null) {
-            try {
-                KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
-                ks.load(null);
-
-                PEMReader reader = new PEMReader(new StringReader(serverCertificate));
-                X509Certificate cert = (X509Certificate) reader.readObject();
-                ks.setCertificateEntry(uri.getHost(), cert);
-
-                sslsf = new SSLConnectionSocketFactory(
-                        new SSLContextBuilder()
-                                .loadTrustMaterial(ks)
-                                .build());
-            } catch (NoSuchAlgorithmException e) {
-                e.printStackTrace();
-            } catch (KeyManagementException e) {
-                e.printStackTrace();
-            } catch (KeyStoreException e) {
-                e.printStackTrace();
-            } catch (CertificateException e) {
-                e.printStackTrace();
-            } catch (IOException e) {
-                e.printStackTrace();
+        // the builder pool settings are ignored when passing a connection manager, so configure it directly
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry,
+                null, null, null, connectionTimeToLive, TimeUnit.MILLISECONDS);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivity);
+        if (streaming) {
+            connectionManager.setDefaultMaxPerRoute(Integer.MAX_VALUE);
+            connectionManager.setMaxTotal(Integer.MAX_VALUE);
+        } else {
+            if (getMaxConnectionsPerRoute() > 0) {
+                connectionManager.setDefaultMaxPerRoute(getMaxConnectionsPerRoute());
+            }
+            if (getMaxConnectionsTotal() > 0) {
+                connectionManager.setMaxTotal(getMaxConnectionsTotal());
             }
         }
 
-        CredentialsProvider credsProvider = new BasicCredentialsProvider();
-        credsProvider.setCredentials(
-                new AuthScope(targetHost.getHostName(), targetHost.getPort()),
-                new UsernamePasswordCredentials(userName, password));
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(createRequestConfig(streaming))
+                .setDefaultCredentialsProvider(createCredentialsProvider(targetHost, userName, password));
+        if (keepAliveStrategy != null) {
+            builder.setKeepAliveStrategy(keepAliveStrategy);
+        }
+        if (maxIdleTime > 0) {
+            builder.evictIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+        }
+        if (connectionTimeToLive > 0) {
+            builder.evictExpiredConnections();
+        }
+        if (!gzip) {
+            builder.disableContentCompression().addInterceptorLast(IDENTITY_ENCODING);
+        }
+        return builder;
+    }
+
+    /**
+     * Create a non blocking {@link CloseableHttpAsyncClient}, already started. Requests are multiplexed over a
+     * few I/O dispatcher threads instead of holding a thread each.
+     */
+    public CloseableHttpAsyncClient createHttpAsyncClient(URI uri, String userName, String password,
+            String serverCertificate) {
+        CloseableHttpAsyncClient client = createHttpAsyncClientBuilder(uri, userName, password, serverCertificate,
+                false).build();
+        client.start();
+        return client;
+    }
+
+    /**
+     * Non blocking version of {@link #createStreamingHttpClient(URI, String, String, String)}, already started.
+     */
+    CloseableHttpAsyncClient createStreamingHttpAsyncClient(URI uri, String userName, String password,
+            String serverCertificate) {
+        CloseableHttpAsyncClient client = createHttpAsyncClientBuilder(uri, userName, password, serverCertificate,
+                true).build();
+        client.start();
+        return client;
+    }
 
-        CloseableHttpClient httpclient = HttpClients.custom()
-                .setSSLSocketFactory(sslsf)
-                .setDefaultCredentialsProvider(credsProvider)
+    private HttpAsyncClientBuilder createHttpAsyncClientBuilder(URI uri, String userName, String password,
+            String serverCertificate, boolean streaming) {
+        HttpHost targetHost = new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
+
+        SSLContext sslContext = createSSLContext(uri, serverCertificate);
+        Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy> create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", sslContext == null ? SSLIOSessionStrategy.getDefaultStrategy()
+                        : new SSLIOSessionStrategy(sslContext)).build();
+
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            connectionManager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(), null,
+                    registry, null, null, connectionTimeToLive, TimeUnit.MILLISECONDS);
+        } catch (IOReactorException e) {
+            throw new RuntimeException(e);
+        }
+        if (streaming) {
+            connectionManager.setDefaultMaxPerRoute(Integer.MAX_VALUE);
+            connectionManager.setMaxTotal(Integer.MAX_VALUE);
+        } else {
+            if (getMaxConnectionsPerRoute() > 0) {
+                connectionManager.setDefaultMaxPerRoute(getMaxConnectionsPerRoute());
+            }
+            if (getMaxConnectionsTotal() > 0) {
+                connectionManager.setMaxTotal(getMaxConnectionsTotal());
+            }
+        }
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(createRequestConfig(streaming))
+                .setDefaultCredentialsProvider(createCredentialsProvider(targetHost, userName, password));
+        if (keepAliveStrategy != null) {
+            builder.setKeepAliveStrategy(keepAliveStrategy);
+        }
+        // HttpAsyncClient has no content decoding, buffered responses are decoded by ContentEncoding
+        if (gzip && !streaming) {
+            builder.addInterceptorLast(new RequestAcceptEncoding());
+        } else {
+            builder.addInterceptorLast(IDENTITY_ENCODING);
+        }
+        return builder;
+    }
+
+    private RequestConfig createRequestConfig(boolean streaming) {
+        return RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .setSocketTimeout(streaming ? 0 : socketTimeout)
                 .build();
+    }
+
+    private int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute > 0 ? maxConnectionsPerRoute : connectionPoolSize;
+    }
+
+    private int getMaxConnectionsTotal() {
+        return maxConnectionsTotal > 0 ? maxConnectionsTotal : connectionPoolSize;
+    }
+
+    private SSLContext createSSLContext(URI uri, String serverCertificate) {
+        if (serverCertificate == null) {
+            return null;
+        }
+        try {
+            KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
+            ks.load(null);
+
+            PEMReader reader = new PEMReader(new StringReader(serverCertificate));
+            X509Certificate cert = (X509Certificate) reader.readObject();
+            ks.setCertificateEntry(uri.getHost(), cert);
+
+            return new SSLContextBuilder()
+                    .loadTrustMaterial(ks, null)
+                    .build();
+        } catch (NoSuchAlgorithmException e) {
+            e.printStackTrace();
+        } catch (KeyManagementException e) {
+            e.printStackTrace();
+        } catch (KeyStoreException e) {
+            e.printStackTrace();
+        } catch (CertificateException e) {
+            e.printStackTrace();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Create a context that authenticates preemptively. Contexts are not thread safe, so each caller issuing
+     * requests concurrently should use its own.
+     */
+    public HttpClientContext createHttpContext(URI uri, String userName, String password) {
+        // Configure HttpClient to authenticate preemptively
+        // by prepopulating the authentication data cache.
+        // http://docs.jboss.org/resteasy/docs/3.0.9.Final/userguide/html/RESTEasy_Client_Framework.html#transport_layer
+        // http://hc.apache.org/httpcomponents-client-4.2.x/tutorial/html/authentication.html#d5e1032
+
+        HttpHost targetHost = new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
 
         // Create AuthCache instance
         AuthCache authCache = new BasicAuthCache();
@@ -108,20 +617,17 @@ public class RestFactory {
 
         // Add AuthCache to the execution context
         HttpClientContext context = HttpClientContext.create();
-        context.setCredentialsProvider(credsProvider);
+        context.setCredentialsProvider(createCredentialsProvider(targetHost, userName, password));
         context.setAuthCache(authCache);
+        return context;
+    }
 
-        // 4. Create client executor and proxy
-        ApacheHttpClient4Engine engine = new ApacheHttpClient4Engine(httpclient, context);
-        ResteasyClient client = new ResteasyClientBuilder().connectionPoolSize(connectionPoolSize).httpEngine(engine)
-                .build();
-
-        client.register(JacksonJaxbJsonProvider.class).register(JacksonConfig.class);
-        ProxyBuilder<KubernetesAPI> proxyBuilder = client.target(uri).proxyBuilder(KubernetesAPI.class);
-        if (classLoader != null) {
-            proxyBuilder = proxyBuilder.classloader(classLoader);
-        }
-        return proxyBuilder.build();
+    private CredentialsProvider createCredentialsProvider(HttpHost targetHost, String userName, String password) {
+        CredentialsProvider credsProvider = new BasicCredentialsProvider();
+        credsProvider.setCredentials(
+                new AuthScope(targetHost.getHostName(), targetHost.getPort()),
+                new UsernamePasswordCredentials(userName, password));
+        return credsProvider;
     }
 
     public KubernetesAPI createAPI(String url, String userName, String password) throws URISyntaxException {
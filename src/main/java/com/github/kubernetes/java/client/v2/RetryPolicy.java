@@ -0,0 +1,169 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.apache.http.client.utils.DateUtils;
+
+/**
+ * When and how long to wait before retrying a failed call. Calls are retried on 429, on 5xx responses other than
+ * 501 and on connection failures, with exponential backoff and full jitter (a random wait between 0 and the
+ * current backoff), until <code>maxAttempts</code> or the deadline is reached. A <code>Retry-After</code> header
+ * from the server takes precedence over the computed backoff.
+ * <p>
+ * GET and DELETE are retried, POST and PUT only if {@link #retryMutations(boolean)} is enabled since they may
+ * have been applied before the failure.
+ */
+public class RetryPolicy {
+
+    private int maxAttempts = 5;
+    private long initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private long maxBackoffNanos = TimeUnit.SECONDS.toNanos(10);
+    private long deadlineNanos = TimeUnit.SECONDS.toNanos(30);
+    private boolean retryMutations;
+
+    /**
+     * Total attempts including the first one.
+     */
+    public RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    public RetryPolicy backoff(long initial, long max, TimeUnit unit) {
+        this.initialBackoffNanos = unit.toNanos(initial);
+        this.maxBackoffNanos = unit.toNanos(max);
+        return this;
+    }
+
+    /**
+     * Give up retrying once this much time has passed since the first attempt.
+     */
+    public RetryPolicy deadline(long deadline, TimeUnit unit) {
+        this.deadlineNanos = unit.toNanos(deadline);
+        return this;
+    }
+
+    /**
+     * Also retry POST and PUT calls.
+     */
+    public RetryPolicy retryMutations(boolean retryMutations) {
+        this.retryMutations = retryMutations;
+        return this;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getDeadline(TimeUnit unit) {
+        return unit.convert(deadlineNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isRetryMutations() {
+        return retryMutations;
+    }
+
+    /**
+     * Whether calls with this HTTP method may be retried.
+     */
+    public boolean isRetryable(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "DELETE".equals(method) || retryMutations;
+    }
+
+    /**
+     * Whether the failure is worth retrying.
+     */
+    public boolean isRetryable(Throwable failure) {
+        if (failure instanceof WebApplicationException) {
+            Response response = ((WebApplicationException) failure).getResponse();
+            int status = response == null ? 0 : response.getStatus();
+            return status == 429 || (status >= 500 && status != 501);
+        }
+        if (failure instanceof ProcessingException) {
+            return failure.getCause() instanceof IOException;
+        }
+        return failure instanceof IOException;
+    }
+
+    /**
+     * Time to wait before the given retry.
+     * 
+     * @param retry
+     *            1 for the first retry, 2 for the second...
+     * @param failure
+     *            the failure being retried, to honor <code>Retry-After</code>
+     */
+    public long backoffNanos(int retry, Throwable failure) {
+        long retryAfter = retryAfterNanos(failure);
+        if (retryAfter >= 0) {
+            return retryAfter;
+        }
+        long backoff = initialBackoffNanos << Math.min(retry - 1, 30);
+        if (backoff <= 0 || backoff > maxBackoffNanos) {
+            backoff = maxBackoffNanos;
+        }
+        return ThreadLocalRandom.current().nextLong(backoff + 1);
+    }
+
+    /**
+     * @return the wait requested by the server in nanoseconds, or -1 if none
+     */
+    static long retryAfterNanos(Throwable failure) {
+        if (!(failure instanceof WebApplicationException)) {
+            return -1;
+        }
+        Response response = ((WebApplicationException) failure).getResponse();
+        String retryAfter = response == null ? null : response.getHeaderString(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return -1;
+        }
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            Date date = DateUtils.parseDate(retryAfter);
+            if (date == null) {
+                return -1;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, date.getTime() - System.currentTimeMillis()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy [maxAttempts=" + maxAttempts + ", initialBackoff="
+                + TimeUnit.NANOSECONDS.toMillis(initialBackoffNanos) + "ms, maxBackoff="
+                + TimeUnit.NANOSECONDS.toMillis(maxBackoffNanos) + "ms, deadline="
+                + TimeUnit.NANOSECONDS.toMillis(deadlineNanos) + "ms, retryMutations=" + retryMutations + "]";
+    }
+}
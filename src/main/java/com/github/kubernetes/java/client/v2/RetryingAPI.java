@@ -0,0 +1,132 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.HttpMethod;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Wraps a {@link KubernetesAPI} retrying failed calls according to a {@link RetryPolicy}. The HTTP method of each
+ * call is taken from its JAX-RS annotation.
+ */
+class RetryingAPI implements InvocationHandler {
+
+    private static final Log LOG = LogFactory.getLog(RetryingAPI.class);
+
+    /** The HTTP method of each {@link KubernetesAPI} method, resolved once instead of on every call */
+    private static final Map<Method, String> HTTP_METHODS = new HashMap<Method, String>();
+
+    static {
+        for (Method method : KubernetesAPI.class.getMethods()) {
+            String httpMethod = resolveHttpMethod(method);
+            if (httpMethod != null) {
+                HTTP_METHODS.put(method, httpMethod);
+            }
+        }
+    }
+
+    private final KubernetesAPI api;
+    private final RetryPolicy policy;
+
+    private RetryingAPI(KubernetesAPI api, RetryPolicy policy) {
+        this.api = api;
+        this.policy = policy;
+    }
+
+    static KubernetesAPI wrap(KubernetesAPI api, RetryPolicy policy) {
+        return (KubernetesAPI) Proxy.newProxyInstance(KubernetesAPI.class.getClassLoader(),
+                new Class<?>[] { KubernetesAPI.class }, new RetryingAPI(api, policy));
+    }
+
+    public Object invoke(Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class || !policy.isRetryable(httpMethod(method))) {
+            return call(method, args);
+        }
+        return retry(policy, method.getName(), () -> call(method, args));
+    }
+
+    /**
+     * Make the call, retrying it while the policy allows. The caller checks that its HTTP method is retryable.
+     */
+    static <T, E extends Throwable> T retry(RetryPolicy policy, String name, ApiCall<T, E> call) throws E {
+        long start = System.nanoTime();
+        long deadline = policy.getDeadline(TimeUnit.NANOSECONDS);
+        for (int attempt = 1;; attempt++) {
+            try {
+                return call.call();
+            } catch (RuntimeException e) {
+                if (attempt >= policy.getMaxAttempts() || !policy.isRetryable(e)) {
+                    throw e;
+                }
+                long backoff = policy.backoffNanos(attempt, e);
+                if (System.nanoTime() + backoff - start > deadline) {
+                    throw e;
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Retrying " + name + " in " + TimeUnit.NANOSECONDS.toMillis(backoff)
+                            + "ms after attempt " + attempt + " failed: " + e);
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Object call(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(api, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The HTTP method of a {@link KubernetesAPI} method, null for any other method.
+     */
+    static String httpMethod(Method method) {
+        return HTTP_METHODS.get(method);
+    }
+
+    private static String resolveHttpMethod(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
+            if (httpMethod != null) {
+                return httpMethod.value();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * {@link Publisher} over a blocking stream of objects read from an HTTP response, a list or a watch. Each
+ * subscription sends its own request on the first {@link Subscription#request(long)} and reads from the response
+ * only while the subscriber has outstanding demand. When the demand runs out the reading thread is released and
+ * the response is left unread, so TCP flow control slows down the server instead of items piling up in memory.
+ * <p>
+ * Reads run on a shared executor, one virtual thread per active subscription on Java 21 or a daemon thread from
+ * a cached pool before that. Cancelling aborts the request.
+ */
+class StreamPublisher<T> implements Publisher<T> {
+
+    private static final Log LOG = LogFactory.getLog(StreamPublisher.class);
+
+    private static final Executor EXECUTOR = VirtualThreads.isAvailable() ? VirtualThreads.newExecutor()
+            : Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("kubernetes-publisher-%d")
+                    .setDaemon(true).build());
+
+    /**
+     * Stream read by a subscription.
+     */
+    interface Source<T> {
+        /**
+         * Block until the next object is read.
+         * 
+         * @return the object, or null at the end of the stream
+         */
+        T next() throws IOException;
+
+        /**
+         * Abort the request, called from any thread, possibly while {@link #next()} is blocked.
+         */
+        void close();
+    }
+
+    /**
+     * Sends the request, called from the reading thread.
+     */
+    interface SourceFactory<T> {
+        Source<T> open();
+    }
+
+    private final SourceFactory<T> factory;
+    private final String description;
+
+    StreamPublisher(SourceFactory<T> factory, String description) {
+        this.factory = factory;
+        this.description = description;
+    }
+
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        StreamSubscription<T> subscription = new StreamSubscription<T>(factory, subscriber, description);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Override
+    public String toString() {
+        return "StreamPublisher[" + description + "]";
+    }
+
+    /**
+     * Delivers the items to one subscriber. All the signals after onSubscribe are sent from a single drain loop,
+     * entered by whoever raises the work counter from zero, so they are serial and a subscriber calling
+     * {@link #request(long)} from onNext doesn't recurse.
+     */
+    private static final class StreamSubscription<T> implements Subscription, Runnable {
+
+        private final SourceFactory<T> factory;
+        private final Subscriber<? super T> subscriber;
+        private final String description;
+
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private volatile Source<T> source;
+        /** only accessed from the drain loop */
+        private boolean done;
+
+        StreamSubscription(SourceFactory<T> factory, Subscriber<? super T> subscriber, String description) {
+            this.factory = factory;
+            this.subscriber = subscriber;
+            this.description = description;
+        }
+
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " items from " + description
+                        + ", must be positive (rule 3.9)");
+            } else {
+                long current;
+                do {
+                    current = demand.get();
+                    if (current == Long.MAX_VALUE) {
+                        break;
+                    }
+                } while (!demand.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+            }
+            schedule();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            // unblock a pending read, the drain loop then closes again and stops
+            Source<T> s = source;
+            if (s != null) {
+                s.close();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (work.getAndIncrement() == 0) {
+                try {
+                    EXECUTOR.execute(this);
+                } catch (RuntimeException e) {
+                    work.set(0);
+                    LOG.error("Unable to read " + description, e);
+                }
+            }
+        }
+
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            long requested = demand.get();
+            if (requested == 0) {
+                return;
+            }
+            long emitted = 0;
+            try {
+                if (source == null) {
+                    source = factory.open();
+                    if (cancelled) {
+                        // cancelled while opening, before the source could be closed
+                        finish();
+                        return;
+                    }
+                }
+                while (emitted != requested) {
+                    T item = source.next();
+                    if (cancelled) {
+                        finish();
+                        return;
+                    }
+                    if (item == null) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    try {
+                        subscriber.onNext(item);
+                    } catch (RuntimeException e) {
+                        // broken subscriber (rule 2.13), treat as cancelled
+                        LOG.warn("Subscriber to " + description + " failed, cancelling", e);
+                        cancelled = true;
+                        finish();
+                        return;
+                    }
+                    emitted++;
+                    if (invalidRequest != null || cancelled) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                fail(new KubernetesClientException("Error reading " + description, e));
+                return;
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            // a cancel or invalid request during the loop raised the work counter, handled on the next pass
+            if (requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+        }
+
+        private void fail(Exception e) {
+            finish();
+            // reads fail once the request is aborted, that is not an error to report
+            if (!cancelled) {
+                subscriber.onError(e);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            Source<T> s = source;
+            if (s != null) {
+                s.close();
+            }
+        }
+    }
+}
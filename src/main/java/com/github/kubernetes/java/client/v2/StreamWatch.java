@@ -0,0 +1,128 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.interfaces.Watcher;
+import com.github.kubernetes.java.client.model.WatchEvent;
+
+/**
+ * {@link Watch} on a blocking connection, read by its own thread. Events can also be pulled with
+ * {@link #nextEvent()} instead of running it.
+ */
+public class StreamWatch<T> extends Watch<T> implements Runnable {
+
+    private static final Log LOG = LogFactory.getLog(StreamWatch.class);
+
+    private final CloseableHttpClient client;
+    private final HttpClientContext context;
+    private final HttpGet request;
+
+    private CloseableHttpResponse response;
+    private JsonParser parser;
+
+    StreamWatch(CloseableHttpClient client, HttpClientContext context, URI uri, ObjectMapper mapper, Class<T> type,
+            Watcher<T> watcher) {
+        super(uri, mapper, type, watcher);
+        this.client = client;
+        this.context = context;
+        this.request = new HttpGet(uri);
+    }
+
+    @Override
+    void open() throws KubernetesClientException {
+        try {
+            response = client.execute(request, context);
+            int code = response.getStatusLine().getStatusCode();
+            if (code >= 300) {
+                Status status = ResponseStatus.read(mapper, response);
+                response.close();
+                throw new KubernetesClientException(status);
+            }
+        } catch (IOException e) {
+            throw new KubernetesClientException("Unable to watch " + uri, e);
+        }
+    }
+
+    /**
+     * Decode the next event from the stream, blocking until it is available.
+     * 
+     * @return the event, or null if the server ended the stream
+     * @throws KubernetesClientException
+     *             if the server sent an ERROR event
+     */
+    public WatchEvent<T> nextEvent() throws IOException {
+        if (parser == null) {
+            // created lazily, the parser blocks reading ahead to detect the encoding
+            parser = mapper.getFactory().createParser(response.getEntity().getContent());
+        }
+        return readEvent(parser);
+    }
+
+    /**
+     * Read events until the stream ends or the watch is closed, passing them to the {@link Watcher}.
+     */
+    public void run() {
+        KubernetesClientException cause = null;
+        try {
+            WatchEvent<T> event;
+            while (!closed && (event = nextEvent()) != null) {
+                watcher.eventReceived(event);
+            }
+        } catch (KubernetesClientException e) {
+            cause = e;
+        } catch (IOException e) {
+            if (!closed) {
+                cause = new KubernetesClientException("Error reading watch " + uri, e);
+            }
+        } finally {
+            closed = true;
+            try {
+                response.close();
+            } catch (IOException e) {
+                LOG.debug("Error closing watch " + uri, e);
+            }
+            watcher.onClose(cause);
+        }
+    }
+
+    /**
+     * Stop the watch, aborting the underlying connection. The {@link Watcher} is notified from the reading thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        request.abort();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.base.Throwables;
+
+/**
+ * Access to the virtual threads of Java 21 while the client is built for Java 8, through reflection.
+ * <p>
+ * Blocking calls are safe on virtual threads: waiting for a pooled connection, reading responses, rate limiting
+ * and retry backoff all park without holding a monitor. The exception is opening a new connection, which
+ * HttpClient's <code>PoolingHttpClientConnectionManager.connect</code> does inside a <code>synchronized</code>
+ * block, pinning the carrier thread for the TCP (and TLS) handshake. Size the connection pool for the expected
+ * concurrency and keep connections alive, the default, so that happens once per pooled connection rather than
+ * per call.
+ */
+public final class VirtualThreads {
+
+    private static final MethodHandle NEW_EXECUTOR = find();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether this JVM runs virtual threads, Java 21 or later.
+     */
+    public static boolean isAvailable() {
+        return NEW_EXECUTOR != null;
+    }
+
+    /**
+     * An executor starting a new virtual thread for each task, as
+     * <code>Executors.newVirtualThreadPerTaskExecutor()</code>.
+     * 
+     * @throws UnsupportedOperationException
+     *             before Java 21
+     */
+    public static ExecutorService newExecutor() {
+        if (NEW_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads need Java 21, running "
+                    + System.getProperty("java.version"));
+        }
+        try {
+            return (ExecutorService) NEW_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            throw Throwables.propagate(e);
+        }
+    }
+
+    private static MethodHandle find() {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            // Java 19 and 20 have it as a preview feature, failing unless previews are enabled
+            ((ExecutorService) handle.invokeExact()).shutdown();
+            return handle;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
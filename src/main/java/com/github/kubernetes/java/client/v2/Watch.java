@@ -0,0 +1,113 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.v2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.interfaces.Watcher;
+import com.github.kubernetes.java.client.model.WatchEvent;
+
+/**
+ * A long lived <code>?watch=true</code> request. Events are decoded one at a time and passed to the
+ * {@link Watcher}, the response body is never buffered as a whole.
+ */
+public abstract class Watch<T> implements Closeable {
+
+    protected final URI uri;
+    protected final ObjectMapper mapper;
+    protected final Class<T> type;
+    protected final Watcher<T> watcher;
+
+    protected volatile boolean closed;
+
+    protected Watch(URI uri, ObjectMapper mapper, Class<T> type, Watcher<T> watcher) {
+        this.uri = uri;
+        this.mapper = mapper;
+        this.type = type;
+        this.watcher = watcher;
+    }
+
+    /**
+     * Send the watch request, failing if the server does not accept it.
+     */
+    abstract void open() throws KubernetesClientException;
+
+    /**
+     * Stop the watch, aborting the underlying connection. The {@link Watcher} is notified asynchronously.
+     */
+    public abstract void close();
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Decode the next event from the parser.
+     * 
+     * @return the event, or null if there are no more events
+     * @throws KubernetesClientException
+     *             if the server sent an ERROR event
+     */
+    protected WatchEvent<T> readEvent(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        WatchEvent.Type eventType = null;
+        T object = null;
+        JsonNode deferred = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("type".equals(field)) {
+                eventType = WatchEvent.Type.valueOf(parser.getText());
+            } else if ("object".equals(field)) {
+                // the type normally comes first, so the object can be bound straight from the stream
+                if (eventType != null && eventType != WatchEvent.Type.ERROR) {
+                    object = mapper.readValue(parser, type);
+                } else {
+                    deferred = mapper.readTree(parser);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (eventType == null) {
+            throw new JsonParseException("Watch event without type", parser.getCurrentLocation());
+        }
+        if (eventType == WatchEvent.Type.ERROR) {
+            Status status = deferred == null ? new Status() : mapper.treeToValue(deferred, Status.class);
+            throw new KubernetesClientException(status);
+        }
+        if (deferred != null) {
+            object = mapper.treeToValue(deferred, type);
+        }
+        return new WatchEvent<T>(eventType, object);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class AsyncEngineTest {
+
+    private HttpServer server;
+    private KubernetesApiClient client;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                byte[] body;
+                int code;
+                if (exchange.getRequestURI().getPath().endsWith("/slow")) {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                if ("POST".equals(exchange.getRequestMethod())) {
+                    body = ByteStreams.toByteArray(exchange.getRequestBody());
+                    code = 201;
+                } else {
+                    body = "{\"kind\":\"Status\",\"status\":\"Failure\",\"code\":404}".getBytes("UTF-8");
+                    code = 404;
+                }
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(code, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        client = new KubernetesApiClient("http://localhost:" + server.getAddress().getPort(), "user", "password",
+                new RestFactory().engine(RestFactory.Engine.ASYNC));
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testProxyOnAsyncEngine() throws Exception {
+        assertThat(client.getPod("missing"), nullValue());
+        assertThat(client.getAllPods().isEmpty(), is(true));
+
+        Pod pod = new Pod();
+        pod.setId("created");
+        assertThat(client.createPod(pod).getId(), is("created"));
+    }
+
+    @Test
+    public void testInterruptReleasesConnection() throws Exception {
+        final KubernetesApiClient client = new KubernetesApiClient("http://localhost:"
+                + server.getAddress().getPort(), "user", "password", new RestFactory().engine(
+                RestFactory.Engine.ASYNC).connectionPoolSize(1));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> interrupted = executor.submit(new Callable<Boolean>() {
+                public Boolean call() {
+                    Thread.currentThread().interrupt();
+                    try {
+                        client.getPod("slow");
+                        return false;
+                    } catch (RuntimeException e) {
+                        return Thread.interrupted();
+                    }
+                }
+            });
+            assertThat(interrupted.get(10, TimeUnit.SECONDS), is(true));
+            // the only connection was given back when the call was cancelled
+            assertThat(client.getPod("missing"), nullValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
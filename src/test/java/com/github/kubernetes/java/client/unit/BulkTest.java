@@ -0,0 +1,169 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.v2.BulkResult;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.collect.ImmutableMap;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class BulkTest {
+
+    private FakeKubernetesServer server;
+    private KubernetesApiClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        client = new KubernetesApiClient(server.getEndpoint(), "user", "password", new RestFactory()
+                .connectionPoolSize(8).bulkConcurrency(8));
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    private static List<Pod> pods(int count, String name) {
+        List<Pod> pods = new ArrayList<Pod>();
+        for (int i = 0; i < count; i++) {
+            Pod pod = new Pod();
+            pod.setId(name + i);
+            pod.setLabels(ImmutableMap.of("name", name));
+            pods.add(pod);
+        }
+        return pods;
+    }
+
+    @Test
+    public void testCreateAndDelete() {
+        final List<Integer> progress = new ArrayList<Integer>();
+        final Thread caller = Thread.currentThread();
+        BulkResult<Pod> created = client.createPods(pods(100, "web"), (item, completed, total) -> {
+            assertThat(total, is(100));
+            assertThat(Thread.currentThread(), is(caller));
+            progress.add(completed);
+        });
+        assertThat(created.isSuccess(), is(true));
+        assertThat(created.size(), is(100));
+        assertThat(created.getItems().get(42).getValue().getId(), is("web42"));
+        assertThat(server.getPods().size(), is(100));
+        assertThat(progress.size(), is(100));
+        for (int i = 0; i < progress.size(); i++) {
+            assertThat(progress.get(i), is(i + 1));
+        }
+
+        client.createPods(pods(10, "db"));
+        BulkResult<Status> deleted = client.deleteSelectedPods(ImmutableMap.of("name", "web"));
+        assertThat(deleted.size(), is(100));
+        assertThat(deleted.isSuccess(), is(true));
+        assertThat(server.getPods().size(), is(10));
+    }
+
+    @Test
+    public void testFailuresDontStopTheBatch() {
+        client.createPods(pods(5, "web"));
+        BulkResult<Pod> created = client.createPods(pods(10, "web"));
+        assertThat(created.getFailed().size(), is(5));
+        assertThat(created.getSucceeded().size(), is(5));
+        assertThat(created.getItems().get(0).getError().getStatus().getCode(), is(409));
+        assertThat(created.getItems().get(9).isSuccess(), is(true));
+
+        BulkResult<Status> deleted = client.deletePods(Arrays.asList("web0", "missing", "web1"));
+        assertThat(deleted.getItems().get(0).getValue().getStatus(), is("Success"));
+        assertThat(deleted.getItems().get(1).getId(), is("missing"));
+        assertThat(deleted.getItems().get(1).getError().getStatus().getCode(), is(404));
+        assertThat(deleted.getItems().get(2).isSuccess(), is(true));
+    }
+
+    @Test
+    public void testUnexpectedFailuresAreRecorded() {
+        List<Pod> pods = pods(3, "web");
+        pods.set(1, null);
+        BulkResult<Pod> created = client.createPods(pods);
+        assertThat(created.size(), is(3));
+        assertThat(created.getSucceeded().size(), is(2));
+        assertThat(created.getItems().get(1).getId(), nullValue());
+        assertThat(created.getItems().get(1).getError().getCause(), instanceOf(NullPointerException.class));
+    }
+
+    @Test
+    public void testConcurrencyLimit() {
+        server.latency(50, 50, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        BulkResult<Pod> created = client.createPods(pods(40, "web"));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(created.isSuccess(), is(true));
+        // 40 calls, 8 at a time
+        assertThat(elapsed, greaterThanOrEqualTo(250L));
+        assertThat(elapsed, lessThan(40 * 50L));
+    }
+
+    @Test
+    public void testReplicationControllersAndServices() {
+        List<ReplicationController> controllers = new ArrayList<ReplicationController>();
+        List<Service> services = new ArrayList<Service>();
+        for (int i = 0; i < 5; i++) {
+            ReplicationController controller = new ReplicationController();
+            controller.setId("rc" + i);
+            controllers.add(controller);
+            Service service = new Service();
+            service.setId("service" + i);
+            services.add(service);
+        }
+        assertThat(client.createReplicationControllers(controllers).isSuccess(), is(true));
+        assertThat(client.createServices(services).isSuccess(), is(true));
+        assertThat(server.getReplicationControllers().size(), is(5));
+        assertThat(server.getServices().size(), is(5));
+        assertThat(client.deleteReplicationControllers(Arrays.asList("rc0", "rc1")).isSuccess(), is(true));
+        assertThat(client.deleteServices(Arrays.asList("service0")).isSuccess(), is(true));
+        assertThat(server.getReplicationControllers().size(), is(3));
+        assertThat(server.getServices().size(), is(4));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(client.deletePods(new ArrayList<String>()).size(), is(0));
+    }
+}
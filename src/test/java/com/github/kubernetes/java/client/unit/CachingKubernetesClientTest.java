@@ -0,0 +1,142 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.cache.CachingKubernetesClient;
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.State;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class CachingKubernetesClientTest {
+
+    private FakeKubernetesServer server;
+    private CachingKubernetesClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        for (int i = 0; i < 5; i++) {
+            server.addPod(pod("pod" + i));
+        }
+        client = new CachingKubernetesClient(new KubernetesApiClient(server.getEndpoint(), "user", "password"), 1,
+                TimeUnit.MINUTES, 100);
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    private static Pod pod(String id) {
+        Pod pod = new Pod();
+        pod.setId(id);
+        return pod;
+    }
+
+    @Test
+    public void testReadThrough() {
+        Pod pod = client.getPod("pod1");
+        assertThat(client.getPod("pod1"), sameInstance(pod));
+        assertThat(client.getPod("pod1"), sameInstance(pod));
+        assertThat(server.getRequestCount(), is(1L));
+        assertThat(client.getHitCount(), is(2L));
+        assertThat(client.getMissCount(), is(1L));
+        assertThat(client.getHitRatio(), closeTo(2.0 / 3, 0.001));
+    }
+
+    @Test
+    public void testNegativeCaching() {
+        assertThat(client.getPod("missing"), nullValue());
+        assertThat(client.getPod("missing"), nullValue());
+        assertThat(server.getRequestCount(), is(1L));
+
+        // creating through the cache replaces the missing entry
+        client.createPod(pod("missing"));
+        assertThat(client.getPod("missing"), notNullValue());
+        assertThat(server.getRequestCount(), is(2L));
+    }
+
+    @Test
+    public void testDeleteInvalidates() {
+        assertThat(client.getPod("pod1"), notNullValue());
+        client.deletePod("pod1");
+        assertThat(client.getPod("pod1"), nullValue());
+        assertThat(server.getRequestCount(), is(3L));
+    }
+
+    @Test
+    public void testUpdate() {
+        ReplicationController controller = new ReplicationController();
+        controller.setId("rc");
+        controller.setDesiredState(new State());
+        controller.getDesiredState().setReplicas(1);
+        client.createReplicationController(controller);
+        assertThat(client.getReplicationController("rc").getDesiredState().getReplicas(), is(1));
+        client.updateReplicationController("rc", 3);
+        long requests = server.getRequestCount();
+        assertThat(client.getReplicationController("rc").getDesiredState().getReplicas(), is(3));
+        assertThat(server.getRequestCount(), is(requests));
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+        client = new CachingKubernetesClient(new KubernetesApiClient(server.getEndpoint(), "user", "password"), 100,
+                TimeUnit.MILLISECONDS, 100);
+        assertThat(client.getService("web"), nullValue());
+        // created behind the cache's back, seen once the entry expires
+        Service service = new Service();
+        service.setId("web");
+        server.addService(service);
+        assertThat(client.getService("web"), nullValue());
+        Thread.sleep(200);
+        assertThat(client.getService("web"), notNullValue());
+    }
+
+    @Test
+    public void testEviction() {
+        client = new CachingKubernetesClient(new KubernetesApiClient(server.getEndpoint(), "user", "password"), 1,
+                TimeUnit.MINUTES, 2);
+        for (int i = 0; i < 5; i++) {
+            client.getPod("pod" + i);
+        }
+        assertThat(client.size(), lessThanOrEqualTo(2L));
+        assertThat(client.getEvictionCount(), is(5L - client.size()));
+    }
+}
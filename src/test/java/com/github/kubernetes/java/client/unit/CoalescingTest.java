@@ -0,0 +1,158 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class CoalescingTest {
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch received = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                requests.incrementAndGet();
+                received.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                String id = exchange.getRequestURI().getPath().replaceFirst(".*/", "");
+                byte[] body = ("{\"kind\":\"Pod\",\"id\":\"" + id + "\"}").getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testConcurrentGetsShareOneRequest() throws Exception {
+        final KubernetesApiClient client = new KubernetesApiClient("http://localhost:"
+                + server.getAddress().getPort(), "user", "password", new RestFactory().coalesceReads(true));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Pod>> futures = new ArrayList<Future<Pod>>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(new Callable<Pod>() {
+                    public Pod call() {
+                        return client.getPod("a");
+                    }
+                }));
+            }
+            assertThat(received.await(10, TimeUnit.SECONDS), is(true));
+            // let the other callers join the request in flight
+            Thread.sleep(200);
+            release.countDown();
+
+            Pod first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Pod> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS), sameInstance(first));
+            }
+            assertThat(first.getId(), is("a"));
+            assertThat(requests.get(), is(1));
+
+            // once completed, a new call is a new request, and different ids are not coalesced
+            assertThat(client.getPod("b").getId(), is("b"));
+            assertThat(requests.get(), is(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInterruptedWhileWaiting() throws Exception {
+        final KubernetesApiClient client = new KubernetesApiClient("http://localhost:"
+                + server.getAddress().getPort(), "user", "password", new RestFactory().coalesceReads(true));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Pod> first = executor.submit(new Callable<Pod>() {
+                public Pod call() {
+                    return client.getPod("a");
+                }
+            });
+            assertThat(received.await(10, TimeUnit.SECONDS), is(true));
+            Future<Boolean> waiting = executor.submit(new Callable<Boolean>() {
+                public Boolean call() {
+                    Thread.currentThread().interrupt();
+                    try {
+                        client.getPod("a");
+                        return false;
+                    } catch (KubernetesClientException e) {
+                        return Thread.interrupted() && e.getCause() instanceof InterruptedException;
+                    }
+                }
+            });
+            assertThat(waiting.get(10, TimeUnit.SECONDS), is(true));
+
+            // the call in flight is not affected
+            release.countDown();
+            assertThat(first.get(10, TimeUnit.SECONDS).getId(), is("a"));
+            assertThat(requests.get(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
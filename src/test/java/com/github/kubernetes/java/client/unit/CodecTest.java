@@ -0,0 +1,129 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.codec.AfterburnerCodec;
+import com.github.kubernetes.java.client.codec.JacksonCodec;
+import com.github.kubernetes.java.client.codec.JsonCodec;
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.collect.ImmutableMap;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class CodecTest {
+
+    private FakeKubernetesServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Counts the calls to the default codec.
+     */
+    private static class CountingCodec implements JsonCodec {
+        private final JsonCodec codec = new JacksonCodec(JacksonConfig.getDefault());
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        public <T> T read(InputStream in, Class<T> type) throws IOException {
+            reads.incrementAndGet();
+            return codec.read(in, type);
+        }
+
+        public void write(Object value, OutputStream out) throws IOException {
+            writes.incrementAndGet();
+            codec.write(value, out);
+        }
+
+        public byte[] write(Object value) throws IOException {
+            writes.incrementAndGet();
+            return codec.write(value);
+        }
+    }
+
+    @Test
+    public void testProxyUsesCodec() {
+        assertCodecUsed(RestFactory.Implementation.PROXY);
+    }
+
+    @Test
+    public void testDirectUsesCodec() {
+        assertCodecUsed(RestFactory.Implementation.DIRECT);
+    }
+
+    private void assertCodecUsed(RestFactory.Implementation implementation) {
+        CountingCodec codec = new CountingCodec();
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password",
+                new RestFactory().implementation(implementation).codec(codec));
+        Pod pod = new Pod();
+        pod.setId("a");
+        client.createPod(pod);
+        assertThat(client.getPod("a").getId(), is("a"));
+        assertThat(codec.writes.get(), is(1));
+        assertThat(codec.reads.get(), greaterThan(1));
+    }
+
+    @Test
+    public void testAfterburner() {
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password",
+                new RestFactory().codec(new AfterburnerCodec()));
+        Pod pod = new Pod();
+        pod.setId("a");
+        pod.setLabels(ImmutableMap.of("name", "web"));
+        Pod created = client.createPod(pod);
+        assertThat(created.getResourceVersion(), is(1));
+        assertThat(client.getSelectedPods(ImmutableMap.of("name", "web")).get(0).getUid(), is(created.getUid()));
+        assertThat(client.getPod("b"), nullValue());
+        try {
+            client.createPod(pod);
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            assertThat(e.getStatus().getCode(), is(409));
+        }
+    }
+}
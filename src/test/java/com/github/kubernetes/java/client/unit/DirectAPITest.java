@@ -0,0 +1,148 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.interfaces.KubernetesAPIClientInterface;
+import com.github.kubernetes.java.client.metrics.ClientMetrics;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.State;
+import com.github.kubernetes.java.client.v2.KubernetesAPI;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.github.kubernetes.java.client.v2.RetryPolicy;
+import com.google.common.collect.ImmutableMap;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class DirectAPITest {
+
+    private FakeKubernetesServer server;
+    private ClientMetrics metrics;
+    private KubernetesApiClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        metrics = new ClientMetrics();
+        client = new KubernetesApiClient(server.getEndpoint(), "user", "password", new RestFactory().implementation(
+                RestFactory.Implementation.DIRECT).metrics(metrics));
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testCalls() {
+        Pod pod = new Pod();
+        pod.setId("a b");
+        pod.setLabels(ImmutableMap.of("name", "web server"));
+        assertThat(client.createPod(pod).getUid(), is(server.getPod("a b").getUid()));
+        assertThat(client.getPod("a b").getId(), is("a b"));
+        assertThat(client.getPod("missing"), nullValue());
+        assertThat(client.getSelectedPods(ImmutableMap.of("name", "web server")).size(), is(1));
+        assertThat(client.getSelectedPods(ImmutableMap.of("name", "db")).size(), is(0));
+
+        ReplicationController controller = new ReplicationController();
+        controller.setId("rc");
+        controller.setDesiredState(new State());
+        client.createReplicationController(controller);
+        assertThat(client.updateReplicationController("rc", 2).getDesiredState().getReplicas(), is(2));
+        assertThat(client.getAllReplicationControllers().size(), is(1));
+
+        Service service = new Service();
+        service.setId("svc");
+        client.createService(service);
+        assertThat(client.getService("svc").getUid(), is(server.getService("svc").getUid()));
+        client.deleteService("svc");
+        assertThat(client.getAllServices().size(), is(0));
+
+        client.deletePod("a b");
+        assertThat(client.getAllPods().size(), is(0));
+    }
+
+    @Test
+    public void testErrors() {
+        Pod pod = new Pod();
+        pod.setId("a");
+        client.createPod(pod);
+        try {
+            client.createPod(pod);
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            assertThat(e.getStatus().getCode(), is(409));
+            assertThat(e.getMessage(), containsString("already exists"));
+        }
+        try {
+            client.deletePod("missing");
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            assertThat(e.getStatus().getReason(), is("NotFound"));
+        }
+        assertThat(metrics.getOperation("createPod").getStatusCount(409), is(1L));
+        assertThat(metrics.getOperation("createPod").getBytesOut(), greaterThan(0L));
+        assertThat(metrics.getOperation("deletePod").getStatusCount(404), is(1L));
+    }
+
+    @Test
+    public void testRetry() {
+        server.errors(1, 503);
+        try {
+            new KubernetesApiClient(server.getEndpoint(), "user", "password", new RestFactory().implementation(
+                    RestFactory.Implementation.DIRECT).retryPolicy(
+                    new RetryPolicy().maxAttempts(3)).metrics(metrics)).getAllPods();
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            assertThat(e.getStatus().getCode(), is(503));
+            assertThat(server.getRequestCount(), is(3L));
+        }
+        // each attempt is reported
+        assertThat(metrics.getOperation("getAllPods").getStatusCount(503), is(3L));
+    }
+
+    @Test
+    public void testNoProxies() throws Exception {
+        String url = server.getEndpoint() + "/api/" + KubernetesAPIClientInterface.VERSION;
+        KubernetesAPI api = new RestFactory().implementation(RestFactory.Implementation.DIRECT).metrics(metrics)
+                .retryPolicy(new RetryPolicy()).createAPI(url, "user", "password");
+        assertThat(Proxy.isProxyClass(api.getClass()), is(false));
+        assertThat(api.getAllPods().size(), is(0));
+        assertThat(metrics.getOperation("getAllPods").getStatusCount(200), is(1L));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.ExecutorKubernetesClient;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.github.kubernetes.java.client.v2.VirtualThreads;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class ExecutorKubernetesClientTest {
+
+    private FakeKubernetesServer server;
+    private ExecutorKubernetesClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        for (int i = 0; i < 10; i++) {
+            Pod pod = new Pod();
+            pod.setId("pod" + i);
+            server.addPod(pod);
+        }
+        client = ExecutorKubernetesClient.threadPerCall(new KubernetesApiClient(server.getEndpoint(), "user",
+                "password", new RestFactory().connectionPoolSize(100)));
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void testConcurrentCalls() throws Exception {
+        server.latency(100, 100, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        List<CompletableFuture<Pod>> pods = new ArrayList<CompletableFuture<Pod>>();
+        for (int i = 0; i < 100; i++) {
+            pods.add(client.getPod("pod" + (i % 10)));
+        }
+        for (int i = 0; i < pods.size(); i++) {
+            assertThat(pods.get(i).get().getId(), is("pod" + (i % 10)));
+        }
+        // all in flight at the same time, not one after the other
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(5000L));
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        assertThat(client.getPod("missing").get(), nullValue());
+        try {
+            client.deletePod("missing").get();
+            fail("expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(KubernetesClientException.class));
+            assertThat(((KubernetesClientException) e.getCause()).getStatus().getCode(), is(404));
+        }
+    }
+
+    @Test
+    public void testClosed() throws Exception {
+        client.close();
+        try {
+            client.getPod("pod1").get();
+            fail("expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(RejectedExecutionException.class));
+        }
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        if (!VirtualThreads.isAvailable()) {
+            try {
+                VirtualThreads.newExecutor();
+                fail("expected UnsupportedOperationException");
+            } catch (UnsupportedOperationException e) {
+                // before Java 21
+            }
+            return;
+        }
+        ExecutorService executor = VirtualThreads.newExecutor();
+        try {
+            Object virtual = executor.submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+                    .get();
+            assertThat(virtual, is((Object) Boolean.TRUE));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.State;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.collect.ImmutableMap;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class FakeKubernetesServerTest {
+
+    private FakeKubernetesServer server;
+    private KubernetesApiClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        client = new KubernetesApiClient(server.getEndpoint(), "user", "password");
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    private static Pod pod(String id, String name) {
+        Pod pod = new Pod();
+        pod.setId(id);
+        pod.setLabels(ImmutableMap.of("name", name));
+        return pod;
+    }
+
+    @Test
+    public void testPods() {
+        Pod created = client.createPod(pod("a", "web"));
+        assertThat(created.getUid(), notNullValue());
+        assertThat(created.getCreationTimestamp(), notNullValue());
+        assertThat(created.getResourceVersion(), is(1));
+        client.createPod(pod("b", "db"));
+        try {
+            client.createPod(pod("a", "web"));
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            // already exists
+        }
+
+        assertThat(client.getPod("a").getUid(), is(created.getUid()));
+        assertThat(client.getAllPods().size(), is(2));
+        assertThat(client.getSelectedPods(ImmutableMap.of("name", "db")).get(0).getId(), is("b"));
+
+        client.deletePod("a");
+        assertThat(client.getPod("a"), nullValue());
+        assertThat(client.getAllPods().size(), is(1));
+    }
+
+    @Test
+    public void testUpdateReplicationController() {
+        ReplicationController controller = new ReplicationController();
+        controller.setId("rc");
+        controller.setDesiredState(new State());
+        controller.getDesiredState().setReplicas(1);
+        ReplicationController created = client.createReplicationController(controller);
+
+        ReplicationController updated = client.updateReplicationController("rc", 3);
+        assertThat(updated.getDesiredState().getReplicas(), is(3));
+        assertThat(updated.getUid(), is(created.getUid()));
+        assertThat(updated.getResourceVersion(), greaterThan(created.getResourceVersion()));
+        assertThat(server.getReplicationController("rc").getDesiredState().getReplicas(), is(3));
+    }
+
+    @Test
+    public void testLargeList() {
+        for (int i = 0; i < 10000; i++) {
+            server.addPod(pod("pod-" + i, i % 2 == 0 ? "even" : "odd"));
+        }
+        assertThat(client.getAllPods().size(), is(10000));
+        assertThat(client.getSelectedPods(ImmutableMap.of("name", "odd")).size(), is(5000));
+    }
+
+    @Test
+    public void testErrorInjection() {
+        server.errors(1, 503);
+        KubernetesApiClient noRetries = new KubernetesApiClient(server.getEndpoint(), "user", "password",
+                new RestFactory().retryPolicy(null));
+        try {
+            noRetries.getAllPods();
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            assertThat(server.getRequestCount(), is(1L));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.codec.GeneratedCodec;
+import com.github.kubernetes.java.client.codec.JacksonCodec;
+import com.github.kubernetes.java.client.exceptions.Status;
+import com.github.kubernetes.java.client.exceptions.StatusDetailsCause;
+import com.github.kubernetes.java.client.model.Kind;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.ReplicationControllerList;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.ServiceList;
+import com.github.kubernetes.java.client.model.StateInfo;
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class GeneratedCodecTest {
+
+    private final ObjectMapper mapper = JacksonConfig.getDefault().getObjectMapper();
+    private final GeneratedCodec codec = new GeneratedCodec();
+
+    @Test
+    public void testGenerated() {
+        assertThat(GeneratedCodec.isAvailable(), is(true));
+        // referenced types get a codec too
+        assertThat(GeneratedCodec.find(StateInfo.class), notNullValue());
+        assertThat(GeneratedCodec.find(StatusDetailsCause.class), notNullValue());
+        assertThat(GeneratedCodec.find(String.class), nullValue());
+        assertThat(new RestFactory().getCodec(), instanceOf(GeneratedCodec.class));
+        // the generated codecs follow the default mapper settings only
+        assertThat(new RestFactory().objectMapper(new ObjectMapper()).getCodec(), not(instanceOf(GeneratedCodec.class)));
+    }
+
+    /**
+     * The sample objects of each generated type, modelled on real API server responses.
+     */
+    private static final Map<String, Class<?>> FIXTURES = ImmutableMap.<String, Class<?>> builder()
+            .put("pod", Pod.class).put("podList", PodList.class)
+            .put("replicationController", ReplicationController.class)
+            .put("replicationControllerList", ReplicationControllerList.class).put("service", Service.class)
+            .put("serviceList", ServiceList.class).put("status", Status.class).build();
+
+    private static byte[] fixture(String name) throws IOException {
+        InputStream in = GeneratedCodecTest.class.getResourceAsStream("/fixtures/" + name + ".json");
+        assertThat(name, in, notNullValue());
+        try {
+            return ByteStreams.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testMatchesJackson() throws IOException {
+        for (Map.Entry<String, Class<?>> fixture : FIXTURES.entrySet()) {
+            String name = fixture.getKey();
+            byte[] json = fixture(name);
+            Object jackson = mapper.readValue(json, fixture.getValue());
+            Object generated = codec.read(new ByteArrayInputStream(json), fixture.getValue());
+            // read: the same object as Jackson's, compared through Jackson
+            assertThat(name, mapper.readTree(mapper.writeValueAsBytes(generated)),
+                    is(mapper.readTree(mapper.writeValueAsBytes(jackson))));
+            // write: the same JSON as Jackson
+            assertThat(name, mapper.readTree(codec.write(jackson)),
+                    is(mapper.readTree(mapper.writeValueAsBytes(jackson))));
+        }
+    }
+
+    @Test
+    public void testGetterOnlyProperties() throws IOException {
+        ReplicationController controller = codec.read(new ByteArrayInputStream(fixture("replicationController")),
+                ReplicationController.class);
+        assertThat(controller.getCurrentState().getReplicas(), is(3));
+        PodList pods = codec.read(new ByteArrayInputStream(fixture("podList")), PodList.class);
+        assertThat(pods.getContinue(), is("eyJpZCI6IjIifQ"));
+        assertThat(pods.size(), is(2));
+    }
+
+    @Test
+    public void testLenientRead() throws IOException {
+        String json = "{\"id\":\"a\",\"kind\":\"Pod\",\"unknown\":{\"nested\":[1,2,{\"a\":null}]},"
+                + "\"resourceVersion\":\"12\",\"labels\":{\"name\":null},\"desiredState\":null,"
+                + "\"currentState\":{\"replicas\":null,\"host\":42},\"creationTimestamp\":1421109472000}";
+        Pod pod = codec.read(new ByteArrayInputStream(json.getBytes("UTF-8")), Pod.class);
+        Pod jackson = mapper.readValue(json, Pod.class);
+        assertThat(pod.getKind(), is(Kind.POD));
+        assertThat(pod.getResourceVersion(), is(12));
+        assertThat(pod.getLabels().containsKey("name"), is(true));
+        assertThat(pod.getDesiredState(), nullValue());
+        assertThat(pod.getCurrentState().getHost(), is("42"));
+        assertThat(pod.getCreationTimestamp(), is(jackson.getCreationTimestamp()));
+        assertThat(mapper.readTree(codec.write(pod)), is(mapper.readTree(mapper.writeValueAsBytes(jackson))));
+    }
+
+    @Test
+    public void testInvalidInput() throws IOException {
+        try {
+            codec.read(new ByteArrayInputStream("{\"kind\":\"Foo\"}".getBytes("UTF-8")), Pod.class);
+            fail("expected IOException");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), e.getMessage().startsWith("Not a valid Kind: Foo"), is(true));
+        }
+        try {
+            codec.read(new ByteArrayInputStream("[]".getBytes("UTF-8")), Pod.class);
+            fail("expected IOException");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFallback() throws IOException {
+        assertThat(codec.read(new ByteArrayInputStream("3".getBytes("UTF-8")), Integer.class), is(3));
+        assertThat(new String(codec.write(3), "UTF-8"), is("3"));
+        assertThat(codec, instanceOf(JacksonCodec.class));
+    }
+}
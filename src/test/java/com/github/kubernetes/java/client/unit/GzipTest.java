@@ -0,0 +1,128 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.ItemStream;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.KubernetesAsyncClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.collect.ImmutableMap;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class GzipTest {
+
+    private FakeKubernetesServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().gzip(true).start();
+        for (int i = 0; i < 100; i++) {
+            Pod pod = new Pod();
+            pod.setId("pod" + i);
+            pod.setLabels(ImmutableMap.of("name", "web"));
+            server.addPod(pod);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testOffByDefault() {
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password");
+        assertThat(client.getAllPods().size(), is(100));
+        assertThat(server.getCompressedResponseCount(), is(0L));
+    }
+
+    @Test
+    public void testProxy() {
+        assertGzip(new RestFactory().gzip(true));
+    }
+
+    @Test
+    public void testAsyncEngine() {
+        assertGzip(new RestFactory().gzip(true).engine(RestFactory.Engine.ASYNC));
+    }
+
+    @Test
+    public void testDirect() {
+        assertGzip(new RestFactory().gzip(true).implementation(RestFactory.Implementation.DIRECT));
+    }
+
+    private void assertGzip(RestFactory factory) {
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password", factory);
+        assertThat(client.getAllPods().size(), is(100));
+        assertThat(client.getSelectedPods(ImmutableMap.of("name", "web")).get(0).getLabels().get("name"),
+                is("web"));
+        assertThat(client.getPod("missing"), nullValue());
+        try {
+            client.createPod(client.getPod("pod1"));
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            assertThat(e.getStatus().getCode(), is(409));
+        }
+        // streamed lists are decompressed as they are read
+        int count = 0;
+        try (ItemStream<Pod> pods = client.streamAllPods()) {
+            while (pods.hasNext()) {
+                pods.next();
+                count++;
+            }
+        }
+        assertThat(count, is(100));
+        assertThat(server.getCompressedResponseCount(), is(server.getRequestCount()));
+    }
+
+    @Test
+    public void testAsyncClient() throws Exception {
+        try (KubernetesAsyncClient client = new KubernetesAsyncClient(server.getEndpoint(), "user", "password",
+                new RestFactory().gzip(true))) {
+            assertThat(client.getAllPods().get().size(), is(100));
+            assertThat(client.getPod("missing").get(), nullValue());
+            try {
+                client.deletePod("missing").get();
+                fail("expected KubernetesClientException");
+            } catch (ExecutionException e) {
+                assertThat(((KubernetesClientException) e.getCause()).getStatus().getCode(), is(404));
+            }
+        }
+        assertThat(server.getCompressedResponseCount(), greaterThan(0L));
+        assertThat(server.getCompressedResponseCount(), is(server.getRequestCount()));
+    }
+}
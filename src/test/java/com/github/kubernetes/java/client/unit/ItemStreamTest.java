@@ -0,0 +1,132 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.ItemStream;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class ItemStreamTest {
+
+    private static final int PODS = 10000;
+
+    private HttpServer server;
+    private KubernetesApiClient client;
+    private final List<InetSocketAddress> clients = new CopyOnWriteArrayList<InetSocketAddress>();
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                clients.add(exchange.getRemoteAddress());
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, 0);
+                OutputStream out = exchange.getResponseBody();
+                try {
+                    out.write("{\"kind\":\"PodList\",\"resourceVersion\":42,\"items\":[".getBytes("UTF-8"));
+                    for (int i = 0; i < PODS; i++) {
+                        out.write(((i > 0 ? "," : "") + "{\"kind\":\"Pod\",\"id\":\"pod-" + i
+                                + "\",\"labels\":{\"name\":\"test\"}}").getBytes("UTF-8"));
+                    }
+                    out.write("]}".getBytes("UTF-8"));
+                } finally {
+                    out.close();
+                }
+            }
+        });
+        server.createContext("/api/v1beta2/services", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        client = new KubernetesApiClient("http://localhost:" + server.getAddress().getPort(), "user", "password");
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testIterateAllPods() throws Exception {
+        ItemStream<Pod> pods = client.streamAllPods();
+        try {
+            assertThat(pods.getResourceVersion(), is(42));
+            int count = 0;
+            while (pods.hasNext()) {
+                assertThat(pods.next().getId(), is("pod-" + count++));
+            }
+            assertThat(count, is(PODS));
+        } finally {
+            pods.close();
+        }
+    }
+
+    @Test
+    public void testConnectionReusedAfterTheEnd() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            ItemStream<Pod> pods = client.streamAllPods();
+            while (pods.hasNext()) {
+                pods.next();
+            }
+            pods.close();
+        }
+        // released to the pool at the end of the items instead of aborted
+        assertThat(clients.size(), is(2));
+        assertThat(clients.get(1), is(clients.get(0)));
+    }
+
+    @Test
+    public void testCloseBeforeTheEnd() throws Exception {
+        ItemStream<Pod> pods = client.streamAllPods();
+        assertThat(pods.stream().limit(10).count(), is(10L));
+        pods.close();
+        assertThat(pods.hasNext(), is(false));
+    }
+
+    @Test
+    public void testNotFoundIsEmpty() throws Exception {
+        assertThat(client.streamAllServices().hasNext(), is(false));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.v2.JacksonConfig;
+import com.github.kubernetes.java.client.v2.RestFactory;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class JacksonConfigTest {
+
+    @Test
+    public void testSharedByDefault() {
+        assertThat(new RestFactory().getJacksonConfig(), sameInstance(JacksonConfig.getDefault()));
+        assertThat(new RestFactory().getJacksonConfig(), sameInstance(new RestFactory().getJacksonConfig()));
+
+        ObjectMapper mapper = JacksonConfig.createObjectMapper();
+        JacksonConfig custom = new RestFactory().objectMapper(mapper).getJacksonConfig();
+        assertThat(custom.getObjectMapper(), sameInstance(mapper));
+    }
+
+    @Test
+    public void testReadersAndWritersAreCached() throws Exception {
+        JacksonConfig config = JacksonConfig.getDefault();
+        assertThat(config.reader(PodList.class), sameInstance(config.reader(PodList.class)));
+        assertThat(config.writer(Pod.class), sameInstance(config.writer(Pod.class)));
+        assertThat(config.reader(String.class), sameInstance(config.reader(String.class)));
+
+        Pod pod = new Pod();
+        pod.setId("a");
+        Pod read = config.reader(Pod.class).readValue(config.writer(Pod.class).writeValueAsBytes(pod));
+        assertThat(read.getId(), is("a"));
+    }
+}
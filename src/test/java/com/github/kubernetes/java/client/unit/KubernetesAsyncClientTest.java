@@ -0,0 +1,116 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.KubernetesAsyncClient;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class KubernetesAsyncClientTest {
+
+    private HttpServer server;
+    private KubernetesAsyncClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                String path = exchange.getRequestURI().getPath();
+                if ("POST".equals(exchange.getRequestMethod())) {
+                    // echo the pod back
+                    respond(exchange, 201, new String(ByteStreams.toByteArray(exchange.getRequestBody()), "UTF-8"));
+                } else if (path.endsWith("/broken")) {
+                    respond(exchange, 500, "{\"kind\":\"Status\",\"status\":\"Failure\",\"code\":500,"
+                            + "\"message\":\"etcd unavailable\"}");
+                } else {
+                    respond(exchange, 404, "{\"kind\":\"Status\",\"status\":\"Failure\",\"code\":404}");
+                }
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        client = new KubernetesAsyncClient("http://localhost:" + server.getAddress().getPort(), "user", "password");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes("UTF-8");
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, bytes.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(bytes);
+        out.close();
+    }
+
+    @Test
+    public void testNotFound() throws Exception {
+        assertThat(client.getPod("missing").get(), nullValue());
+        assertThat(client.getAllPods().get().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testCreatePod() throws Exception {
+        Pod pod = new Pod();
+        pod.setId("created");
+        assertThat(client.createPod(pod).get().getId(), is("created"));
+    }
+
+    @Test
+    public void testError() throws Exception {
+        try {
+            client.getPod("broken").get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(KubernetesClientException.class));
+            KubernetesClientException cause = (KubernetesClientException) e.getCause();
+            assertThat(cause.getStatus().getCode(), is(500));
+            assertThat(cause.getMessage(), is("etcd unavailable"));
+        }
+    }
+}
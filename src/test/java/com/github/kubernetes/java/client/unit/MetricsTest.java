@@ -0,0 +1,103 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.metrics.ClientMetrics;
+import com.github.kubernetes.java.client.metrics.LatencyHistogram;
+import com.github.kubernetes.java.client.metrics.OperationMetrics;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class MetricsTest {
+
+    private FakeKubernetesServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testOperationMetrics() {
+        ClientMetrics metrics = new ClientMetrics();
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password",
+                new RestFactory().metrics(metrics));
+        Pod pod = new Pod();
+        pod.setId("a");
+        client.createPod(pod);
+        client.getPod("a");
+        assertThat(client.getPod("missing"), nullValue());
+
+        OperationMetrics create = metrics.getOperation("createPod");
+        assertThat(create.getCount(), is(1L));
+        assertThat(create.getStatusCount(201), is(1L));
+        assertThat(create.getBytesOut(), greaterThan(0L));
+        assertThat(create.getBytesIn(), greaterThan(0L));
+
+        OperationMetrics get = metrics.getOperation("getPod");
+        assertThat(get.getCount(), is(2L));
+        assertThat(get.getStatusCount(200), is(1L));
+        assertThat(get.getStatusCount(404), is(1L));
+        assertThat(get.getErrorCount(), is(1L));
+        assertThat(get.getBytesOut(), is(0L));
+        assertThat(get.getLatency().getCount(), is(2L));
+        assertThat(get.getLatency().getMax(TimeUnit.NANOSECONDS), greaterThan(0L));
+        assertThat(metrics.getOperation("getAllPods"), nullValue());
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertThat(histogram.getCount(), is(10000L));
+        assertThat(histogram.getValueAtPercentile(50, TimeUnit.MICROSECONDS),
+                allOf(greaterThanOrEqualTo(5000L), lessThanOrEqualTo(5000L * 104 / 100)));
+        assertThat(histogram.getValueAtPercentile(99, TimeUnit.MICROSECONDS),
+                allOf(greaterThanOrEqualTo(9900L), lessThanOrEqualTo(10000L)));
+        assertThat(histogram.getValueAtPercentile(100, TimeUnit.MICROSECONDS), is(10000L));
+        assertThat(histogram.getMean(TimeUnit.MICROSECONDS), is(5000.5));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.AbstractKubernetesModel;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.LabelSelector;
+import com.github.kubernetes.java.client.v2.ListPager;
+import com.google.common.collect.ImmutableMap;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class PagingTest {
+
+    private FakeKubernetesServer server;
+    private KubernetesApiClient client;
+    private List<String> ids;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        ids = new ArrayList<String>();
+        for (int i = 0; i < 250; i++) {
+            Pod pod = new Pod();
+            pod.setId(String.format("pod%03d", i));
+            pod.setLabels(ImmutableMap.of("name", i % 2 == 0 ? "web" : "db"));
+            server.addPod(pod);
+            ids.add(pod.getId());
+        }
+        client = new KubernetesApiClient(server.getEndpoint(), "user", "password");
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    private static <T extends AbstractKubernetesModel> List<String> ids(ListPager<T> pager) {
+        List<String> ids = new ArrayList<String>();
+        try {
+            while (pager.hasNext()) {
+                ids.add(pager.next().getId());
+            }
+        } finally {
+            pager.close();
+        }
+        return ids;
+    }
+
+    @Test
+    public void paged() {
+        long requests = server.getRequestCount();
+        ListPager<Pod> pods = client.pageAllPods(50);
+        assertThat(pods.isPaged(), is(true));
+        assertThat(ids(pods), is(ids));
+        assertThat(pods.getPageCount(), is(5));
+        assertThat(server.getRequestCount() - requests, is(5L));
+    }
+
+    @Test
+    public void lastPageFull() {
+        // no continue token on a last page that is exactly full, so no extra request for an empty page
+        long requests = server.getRequestCount();
+        ListPager<Pod> pods = client.pageAllPods(125);
+        assertThat(ids(pods).size(), is(250));
+        assertThat(pods.getPageCount(), is(2));
+        assertThat(server.getRequestCount() - requests, is(2L));
+    }
+
+    @Test
+    public void notSupported() {
+        server.paging(false);
+        long requests = server.getRequestCount();
+        ListPager<Pod> pods = client.pageAllPods(50);
+        assertThat(pods.isPaged(), is(false));
+        assertThat(ids(pods), is(ids));
+        assertThat(pods.getPageCount(), is(1));
+        assertThat(server.getRequestCount() - requests, is(1L));
+    }
+
+    @Test
+    public void selector() {
+        List<String> web = ids(client.pagePods(new LabelSelector().equal("name", "web"), null, 10));
+        assertThat(web.size(), is(125));
+        assertThat(web.get(0), is("pod000"));
+        assertThat(web.get(124), is("pod248"));
+        assertThat(client.pagePods(new LabelSelector().equal("name", "none"), null, 10).hasNext(), is(false));
+    }
+
+    @Test
+    public void closeEarly() {
+        ListPager<Pod> pods = client.pageAllPods(10);
+        for (int i = 0; i < 15; i++) {
+            pods.next();
+        }
+        pods.close();
+        assertThat(pods.hasNext(), is(false));
+    }
+
+    @Test
+    public void stream() {
+        try (Stream<Pod> pods = client.pageAllPods(100).stream()) {
+            assertThat(pods.filter(pod -> "db".equals(pod.getLabels().get("name"))).count(), is(125L));
+        }
+    }
+
+    @Test
+    public void replicationControllersAndServices() {
+        for (String id : new String[] { "a", "b", "c" }) {
+            ReplicationController controller = new ReplicationController();
+            controller.setId(id);
+            server.addReplicationController(controller);
+            Service service = new Service();
+            service.setId(id);
+            server.addService(service);
+        }
+        assertThat(ids(client.pageAllReplicationControllers(2)), contains("a", "b", "c"));
+        assertThat(ids(client.pageAllServices(1)), contains("a", "b", "c"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidLimit() {
+        client.pageAllPods(0);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.cache.AbstractCache;
+import com.github.kubernetes.java.client.cache.PodCache;
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.interfaces.Watcher;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.WatchEvent;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.Watch;
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class PodCacheTest {
+
+    private PodCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new PodCache(new KubernetesApiClient("http://localhost:1", "user", "password"));
+    }
+
+    private static Pod pod(String id, int resourceVersion, Map<String, String> labels) {
+        Pod pod = new Pod();
+        pod.setId(id);
+        pod.setResourceVersion(resourceVersion);
+        pod.setLabels(labels);
+        return pod;
+    }
+
+    @Test
+    public void testLabelQueries() {
+        cache.eventReceived(new WatchEvent<Pod>(WatchEvent.Type.ADDED, pod("a", 1,
+                ImmutableMap.of("name", "web", "tier", "frontend"))));
+        cache.eventReceived(new WatchEvent<Pod>(WatchEvent.Type.ADDED, pod("b", 2,
+                ImmutableMap.of("name", "web", "tier", "backend"))));
+        cache.eventReceived(new WatchEvent<Pod>(WatchEvent.Type.ADDED, pod("c", 3, null)));
+
+        assertThat(cache.size(), is(3));
+        assertThat(cache.getSelectedPods(ImmutableMap.of("name", "web")).size(), is(2));
+        PodList frontend = cache.getSelectedPods(ImmutableMap.of("name", "web", "tier", "frontend"));
+        assertThat(frontend.size(), is(1));
+        assertThat(frontend.get(0).getId(), is("a"));
+        assertThat(cache.getSelectedPods(ImmutableMap.of("name", "db")).isEmpty(), is(true));
+
+        // relabelling moves the pod between index entries
+        cache.eventReceived(new WatchEvent<Pod>(WatchEvent.Type.MODIFIED, pod("a", 4,
+                ImmutableMap.of("name", "web", "tier", "backend"))));
+        assertThat(cache.getSelectedPods(ImmutableMap.of("tier", "frontend")).isEmpty(), is(true));
+        assertThat(cache.getSelectedPods(ImmutableMap.of("tier", "backend")).size(), is(2));
+
+        cache.eventReceived(new WatchEvent<Pod>(WatchEvent.Type.DELETED, pod("b", 5,
+                ImmutableMap.of("name", "web", "tier", "backend"))));
+        assertThat(cache.get("b"), nullValue());
+        assertThat(cache.getSelectedPods(ImmutableMap.of("tier", "backend")).size(), is(1));
+        assertThat(cache.getResourceVersion(), is(5));
+    }
+
+    /**
+     * Lists fail until <code>failures</code> is reached, watches are not opened.
+     */
+    private static class FailingCache extends AbstractCache<Pod> {
+        final AtomicInteger lists = new AtomicInteger();
+        final int failures;
+
+        FailingCache(int failures) {
+            this.failures = failures;
+            reloadBackoff(10, 20, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        protected PodList list() throws KubernetesClientException {
+            if (lists.incrementAndGet() <= failures) {
+                throw new KubernetesClientException("unavailable");
+            }
+            PodList list = new PodList();
+            list.getItems().add(pod("a", 1, null));
+            return list;
+        }
+
+        @Override
+        protected Watch<Pod> watch(int resourceVersion, Watcher<Pod> watcher) {
+            return null;
+        }
+
+        @Override
+        protected Map<String, String> getLabels(Pod item) {
+            return item.getLabels();
+        }
+    }
+
+    @Test
+    public void testReloadIsRetried() throws Exception {
+        FailingCache cache = new FailingCache(3);
+        cache.onClose(new KubernetesClientException("watch dropped"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.get("a") == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.get("a").getId(), is("a"));
+        assertThat(cache.lists.get(), is(4));
+    }
+
+    @Test
+    public void testCloseStopsReloading() throws Exception {
+        FailingCache cache = new FailingCache(Integer.MAX_VALUE);
+        cache.onClose(new KubernetesClientException("watch dropped"));
+        Thread.sleep(100);
+        cache.close();
+        Thread.sleep(50);
+        int lists = cache.lists.get();
+        Thread.sleep(100);
+        assertThat(cache.lists.get(), is(lists));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testReloadRunsInBackground() throws Exception {
+        final Thread[] listed = new Thread[1];
+        FailingCache cache = new FailingCache(0) {
+            @Override
+            protected PodList list() throws KubernetesClientException {
+                listed[0] = Thread.currentThread();
+                return super.list();
+            }
+        };
+        cache.onClose(null);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.get("a") == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.get("a").getId(), is("a"));
+        assertThat(listed[0], not(sameInstance(Thread.currentThread())));
+    }
+
+    @Test
+    public void testReplacedWatchIsIgnored() throws Exception {
+        final List<Watcher<Pod>> watchers = new CopyOnWriteArrayList<Watcher<Pod>>();
+        FailingCache cache = new FailingCache(0) {
+            @Override
+            protected Watch<Pod> watch(int resourceVersion, Watcher<Pod> watcher) {
+                watchers.add(watcher);
+                return null;
+            }
+        };
+        cache.start();
+        cache.start();
+        assertThat(watchers.size(), is(2));
+        assertThat(cache.lists.get(), is(2));
+
+        watchers.get(0).eventReceived(new WatchEvent<Pod>(WatchEvent.Type.ADDED, pod("b", 2, null)));
+        watchers.get(0).onClose(new KubernetesClientException("watch dropped"));
+        Thread.sleep(100);
+        assertThat(cache.get("b"), nullValue());
+        assertThat(cache.lists.get(), is(2));
+
+        watchers.get(1).eventReceived(new WatchEvent<Pod>(WatchEvent.Type.ADDED, pod("b", 2, null)));
+        assertThat(cache.get("b").getId(), is("b"));
+    }
+
+    @Test
+    public void testRestartClosesPreviousWatch() throws Exception {
+        final CountDownLatch stop = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                String query = exchange.getRequestURI().getQuery();
+                if (query != null && query.contains("watch=true")) {
+                    exchange.sendResponseHeaders(200, 0);
+                    try {
+                        stop.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                } else {
+                    byte[] body = "{\"kind\":\"PodList\",\"items\":[]}".getBytes("UTF-8");
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+                exchange.close();
+            }
+        });
+        server.start();
+        final List<Watch<Pod>> watches = new CopyOnWriteArrayList<Watch<Pod>>();
+        PodCache cache = new PodCache(new KubernetesApiClient("http://localhost:" + server.getAddress().getPort(),
+                "user", "password")) {
+            @Override
+            protected Watch<Pod> watch(int resourceVersion, Watcher<Pod> watcher) throws KubernetesClientException {
+                Watch<Pod> watch = super.watch(resourceVersion, watcher);
+                watches.add(watch);
+                return watch;
+            }
+        };
+        try {
+            cache.start();
+            cache.start();
+            assertThat(watches.size(), is(2));
+            assertThat(watches.get(0).isClosed(), is(true));
+            assertThat(watches.get(1).isClosed(), is(false));
+            cache.close();
+            assertThat(watches.get(1).isClosed(), is(true));
+        } finally {
+            stop.countDown();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testStaleUpdatesAreIgnored() {
+        cache.eventReceived(new WatchEvent<Pod>(WatchEvent.Type.ADDED, pod("a", 10, ImmutableMap.of("v", "new"))));
+        cache.eventReceived(new WatchEvent<Pod>(WatchEvent.Type.MODIFIED, pod("a", 9, ImmutableMap.of("v", "old"))));
+        assertThat(cache.get("a").getLabels().get("v"), is("new"));
+
+        cache.eventReceived(new WatchEvent<Pod>(WatchEvent.Type.DELETED, pod("a", 8, null)));
+        assertThat(cache.get("a").getResourceVersion(), is(10));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.WatchEvent;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class PublisherTest {
+
+    private FakeKubernetesServer server;
+    private KubernetesApiClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        for (int i = 0; i < 100; i++) {
+            Pod pod = new Pod();
+            pod.setId("pod" + i);
+            pod.setLabels(ImmutableMap.of("name", i % 2 == 0 ? "web" : "db"));
+            server.addPod(pod);
+        }
+        client = new KubernetesApiClient(server.getEndpoint(), "user", "password");
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Records the signals, requesting the given batch on subscribe and after each batch is received.
+     */
+    private static class TestSubscriber<T> implements Subscriber<T> {
+        final List<T> items = new CopyOnWriteArrayList<T>();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final int batch;
+        volatile Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        TestSubscriber(int batch) {
+            this.batch = batch;
+        }
+
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            if (batch > 0) {
+                s.request(batch);
+            }
+        }
+
+        public void onNext(T item) {
+            items.add(item);
+            if (batch > 0 && items.size() % batch == 0) {
+                subscription.request(batch);
+            }
+        }
+
+        public void onError(Throwable t) {
+            error = t;
+            terminated.countDown();
+        }
+
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertThat(terminated.await(10, TimeUnit.SECONDS), is(true));
+        }
+    }
+
+    @Test
+    public void testList() throws Exception {
+        TestSubscriber<Pod> subscriber = new TestSubscriber<Pod>(7);
+        client.publishAllPods().subscribe(subscriber);
+        subscriber.await();
+        assertThat(subscriber.error, nullValue());
+        assertThat(subscriber.completed, is(true));
+        assertThat(subscriber.items.size(), is(100));
+
+        TestSubscriber<Pod> selected = new TestSubscriber<Pod>(1);
+        client.publishSelectedPods(ImmutableMap.of("name", "web")).subscribe(selected);
+        selected.await();
+        assertThat(selected.items.size(), is(50));
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        TestSubscriber<Pod> subscriber = new TestSubscriber<Pod>(0);
+        client.publishAllPods().subscribe(subscriber);
+        // nothing is requested from the server before there is demand
+        Thread.sleep(100);
+        assertThat(server.getRequestCount(), is(0L));
+
+        subscriber.subscription.request(5);
+        Thread.sleep(200);
+        assertThat(subscriber.items.size(), is(5));
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.await();
+        assertThat(subscriber.items.size(), is(100));
+        assertThat(server.getRequestCount(), is(1L));
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        TestSubscriber<Pod> subscriber = new TestSubscriber<Pod>(0);
+        client.publishAllPods().subscribe(subscriber);
+        subscriber.subscription.request(3);
+        Thread.sleep(200);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+        Thread.sleep(200);
+        assertThat(subscriber.items.size(), is(3));
+        assertThat(subscriber.terminated.getCount(), is(1L));
+    }
+
+    @Test
+    public void testInvalidRequest() throws Exception {
+        TestSubscriber<Pod> subscriber = new TestSubscriber<Pod>(0);
+        client.publishAllPods().subscribe(subscriber);
+        subscriber.subscription.request(0);
+        subscriber.await();
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    public void testServerError() throws Exception {
+        server.errors(1, 500);
+        TestSubscriber<Pod> subscriber = new TestSubscriber<Pod>(1);
+        client.publishAllPods().subscribe(subscriber);
+        subscriber.await();
+        assertThat(subscriber.error, instanceOf(KubernetesClientException.class));
+        assertThat(((KubernetesClientException) subscriber.error).getStatus().getCode(), is(500));
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        final BlockingQueue<String> events = new LinkedBlockingQueue<String>();
+        HttpServer watchServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        watchServer.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, 0);
+                OutputStream out = exchange.getResponseBody();
+                try {
+                    String event;
+                    while (!(event = events.take()).isEmpty()) {
+                        out.write(event.getBytes("UTF-8"));
+                        out.flush();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    out.close();
+                }
+            }
+        });
+        watchServer.start();
+        try {
+            KubernetesApiClient watchClient = new KubernetesApiClient("http://localhost:"
+                    + watchServer.getAddress().getPort(), "user", "password");
+            TestSubscriber<WatchEvent<Pod>> subscriber = new TestSubscriber<WatchEvent<Pod>>(0);
+            watchClient.publishPodEvents(10).subscribe(subscriber);
+            subscriber.subscription.request(1);
+            events.put("{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\",\"id\":\"a\",\"resourceVersion\":11}}\n");
+            events.put("{\"type\":\"MODIFIED\",\"object\":{\"kind\":\"Pod\",\"id\":\"a\",\"resourceVersion\":12}}\n");
+            Thread.sleep(200);
+            assertThat(subscriber.items.size(), is(1));
+            assertThat(subscriber.items.get(0).getType(), is(WatchEvent.Type.ADDED));
+
+            subscriber.subscription.request(10);
+            events.put("{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"code\":410,\"status\":\"Failure\"}}");
+            subscriber.await();
+            assertThat(subscriber.items.size(), is(2));
+            assertThat(subscriber.items.get(1).getObject().getResourceVersion(), is(12));
+            assertThat(((KubernetesClientException) subscriber.error).getStatus().getCode(), is(410));
+            events.put("");
+        } finally {
+            watchServer.stop(0);
+        }
+    }
+}
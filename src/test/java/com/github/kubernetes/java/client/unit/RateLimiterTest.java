@@ -0,0 +1,123 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RateLimiter;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class RateLimiterTest {
+
+    @Test
+    public void testBurst() {
+        RateLimiter limiter = new RateLimiter(10, 5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.acquire(), is(0L));
+        }
+        // the sixth call has to wait for the bucket to refill, about 100ms at 10 qps
+        assertThat(limiter.reserve(), greaterThan(TimeUnit.MILLISECONDS.toNanos(50)));
+        assertThat(limiter.getThrottled(), is(0L));
+        assertThat(limiter.getAcquired(), is(5L));
+    }
+
+    @Test
+    public void testConcurrentCallers() throws Exception {
+        final RateLimiter limiter = new RateLimiter(1000, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        List<Future<Long>> futures = new ArrayList<Future<Long>>();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(new Callable<Long>() {
+                    public Long call() {
+                        long waited = 0;
+                        for (int j = 0; j < 4; j++) {
+                            waited += limiter.acquire();
+                        }
+                        return waited;
+                    }
+                }));
+            }
+            long waited = 0;
+            for (Future<Long> future : futures) {
+                waited += future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(waited, is(limiter.getWaitTime(TimeUnit.NANOSECONDS)));
+        } finally {
+            executor.shutdownNow();
+        }
+        // 256 calls at 1000 qps cannot finish in less than 255ms
+        assertThat(System.nanoTime() - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(250)));
+        assertThat(limiter.getAcquired(), is(256L));
+    }
+
+    @Test
+    public void testReadsAndMutationsUseSeparateBudgets() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                byte[] body = "{\"kind\":\"PodList\",\"items\":[]}".getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+        try {
+            RateLimiter reads = new RateLimiter(100, 10);
+            RateLimiter mutations = new RateLimiter(100, 10);
+            KubernetesApiClient client = new KubernetesApiClient("http://localhost:" + server.getAddress().getPort(),
+                    "user", "password", new RestFactory().rateLimiters(reads, mutations));
+            client.getAllPods();
+            client.getAllPods();
+            client.deletePod("a");
+            assertThat(reads.getAcquired(), is(2L));
+            assertThat(mutations.getAcquired(), is(1L));
+        } finally {
+            server.stop(0);
+        }
+    }
+}
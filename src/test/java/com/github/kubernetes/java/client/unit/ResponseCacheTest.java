@@ -0,0 +1,170 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.PodList;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.State;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.ResponseCache;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.collect.ImmutableMap;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class ResponseCacheTest {
+
+    private FakeKubernetesServer server;
+    private ResponseCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        for (int i = 0; i < 10; i++) {
+            Pod pod = new Pod();
+            pod.setId("pod" + i);
+            server.addPod(pod);
+        }
+        cache = new ResponseCache(100);
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testResourceVersionProxy() {
+        assertRevalidated(new RestFactory());
+    }
+
+    @Test
+    public void testResourceVersionAsyncEngine() {
+        assertRevalidated(new RestFactory().engine(RestFactory.Engine.ASYNC));
+    }
+
+    @Test
+    public void testResourceVersionDirect() {
+        assertRevalidated(new RestFactory().implementation(RestFactory.Implementation.DIRECT));
+    }
+
+    @Test
+    public void testETagProxy() {
+        server.etags(true);
+        assertRevalidated(new RestFactory());
+    }
+
+    @Test
+    public void testETagAsyncEngine() {
+        server.etags(true);
+        assertRevalidated(new RestFactory().engine(RestFactory.Engine.ASYNC));
+    }
+
+    @Test
+    public void testETagDirect() {
+        server.etags(true);
+        assertRevalidated(new RestFactory().implementation(RestFactory.Implementation.DIRECT));
+    }
+
+    private void assertRevalidated(RestFactory factory) {
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password",
+                factory.responseCache(cache));
+        Pod pod = client.getPod("pod1");
+        assertThat(cache.getMissCount(), is(1L));
+        // unchanged, every call goes to the server but the cached object is returned
+        assertThat(client.getPod("pod1"), sameInstance(pod));
+        assertThat(client.getPod("pod1"), sameInstance(pod));
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(server.getRequestCount(), is(3L));
+
+        PodList pods = client.getAllPods();
+        assertThat(client.getAllPods(), sameInstance(pods));
+        assertThat(cache.getHitCount(), is(3L));
+
+        // changed
+        client.deletePod("pod2");
+        PodList changed = client.getAllPods();
+        assertThat(changed, not(sameInstance(pods)));
+        assertThat(changed.size(), is(9));
+
+        Pod updated = new Pod();
+        updated.setId("pod1");
+        updated.setLabels(ImmutableMap.of("name", "updated"));
+        client.deletePod("pod1");
+        client.createPod(updated);
+        Pod current = client.getPod("pod1");
+        assertThat(current, not(sameInstance(pod)));
+        assertThat(current.getLabels().get("name"), is("updated"));
+        assertThat(cache.getHitCount(), is(3L));
+        assertThat(cache.getMissCount(), is(4L));
+
+        // missing objects are dropped
+        client.deletePod("pod1");
+        assertThat(client.getPod("pod1"), nullValue());
+        assertThat(cache.size(), is(1L));
+    }
+
+    @Test
+    public void testEviction() {
+        cache = new ResponseCache(5);
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password",
+                new RestFactory().responseCache(cache));
+        for (int i = 0; i < 10; i++) {
+            client.getPod("pod" + i);
+        }
+        // the limit is spread over the cache segments, so entries can go before it is reached
+        assertThat(cache.size(), lessThanOrEqualTo(5L));
+        assertThat(cache.getEvictionCount(), greaterThanOrEqualTo(5L));
+        client.getPod("pod9");
+        assertThat(cache.getHitCount(), is(1L));
+        client.getPod("pod0");
+        assertThat(cache.getMissCount(), is(11L));
+    }
+
+    @Test
+    public void testUpdateDoesNotChangeCachedObject() {
+        ReplicationController controller = new ReplicationController();
+        controller.setId("rc");
+        controller.setDesiredState(new State());
+        controller.getDesiredState().setReplicas(1);
+        server.addReplicationController(controller);
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password",
+                new RestFactory().responseCache(cache));
+        ReplicationController cached = client.getReplicationController("rc");
+        client.updateReplicationController("rc", 3);
+        assertThat(cached.getDesiredState().getReplicas(), is(1));
+        assertThat(client.getReplicationController("rc").getDesiredState().getReplicas(), is(3));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class RestFactoryTest {
+
+    private static final int CONCURRENCY = 8;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @Before
+    public void setUp() throws Exception {
+        // every request waits until all of them are in flight, which is only possible with one socket each
+        final CyclicBarrier barrier = new CyclicBarrier(CONCURRENCY);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                clientPorts.add(exchange.getRemoteAddress().getPort());
+                int code = 200;
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    code = 500;
+                }
+                byte[] body = "{\"kind\":\"Pod\",\"id\":\"pod\"}".getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(code, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        executor = Executors.newFixedThreadPool(CONCURRENCY);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        server.stop(0);
+    }
+
+    @Test
+    public void testConcurrentCallsUseOneSocketEach() throws Exception {
+        assertConcurrentCalls(new RestFactory().maxConnectionsPerRoute(CONCURRENCY));
+    }
+
+    @Test
+    public void testConcurrentCallsUseOneSocketEachAsyncEngine() throws Exception {
+        assertConcurrentCalls(new RestFactory().engine(RestFactory.Engine.ASYNC).connectionPoolSize(CONCURRENCY));
+    }
+
+    private void assertConcurrentCalls(RestFactory factory) throws Exception {
+        factory.connectTimeout(5000).socketTimeout(30000).connectionRequestTimeout(30000)
+                .connectionTimeToLive(1, TimeUnit.MINUTES).evictIdleConnections(30, TimeUnit.SECONDS)
+                .validateAfterInactivity(1000);
+        final KubernetesApiClient client = new KubernetesApiClient("http://localhost:"
+                + server.getAddress().getPort(), "user", "password", factory);
+
+        List<Future<Pod>> results = new ArrayList<Future<Pod>>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            results.add(executor.submit(new Callable<Pod>() {
+                public Pod call() {
+                    return client.getPod("pod");
+                }
+            }));
+        }
+        for (Future<Pod> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS).getId(), is("pod"));
+        }
+        assertThat(clientPorts.size(), is(CONCURRENCY));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.ServiceUnavailableException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.github.kubernetes.java.client.v2.RetryPolicy;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class RetryPolicyTest {
+
+    private HttpServer server;
+    /** number of requests to fail with 503 before answering */
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                requests.incrementAndGet();
+                byte[] body;
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                if (failures.getAndDecrement() > 0) {
+                    body = "{\"kind\":\"Status\",\"status\":\"Failure\",\"code\":503}".getBytes("UTF-8");
+                    exchange.getResponseHeaders().add("Retry-After", "0");
+                    exchange.sendResponseHeaders(503, body.length);
+                } else {
+                    body = "{\"kind\":\"Pod\",\"id\":\"a\"}".getBytes("UTF-8");
+                    exchange.sendResponseHeaders(200, body.length);
+                }
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private KubernetesApiClient client(RestFactory factory) {
+        return new KubernetesApiClient("http://localhost:" + server.getAddress().getPort(), "user", "password",
+                factory);
+    }
+
+    @Test
+    public void testGetIsRetried() {
+        failures.set(3);
+        Pod pod = client(new RestFactory()).getPod("a");
+        assertThat(pod.getId(), is("a"));
+        assertThat(requests.get(), is(4));
+    }
+
+    @Test
+    public void testGiveUpAfterMaxAttempts() {
+        failures.set(10);
+        try {
+            client(new RestFactory().retryPolicy(new RetryPolicy().maxAttempts(3))).getPod("a");
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            assertThat(requests.get(), is(3));
+        }
+    }
+
+    @Test
+    public void testPostIsRetriedOnlyWhenEnabled() {
+        failures.set(1);
+        try {
+            client(new RestFactory()).createPod(new Pod());
+            fail("expected KubernetesClientException");
+        } catch (KubernetesClientException e) {
+            assertThat(requests.get(), is(1));
+        }
+
+        failures.set(1);
+        requests.set(0);
+        Pod pod = client(new RestFactory().retryPolicy(new RetryPolicy().retryMutations(true)))
+                .createPod(new Pod());
+        assertThat(pod.getId(), is("a"));
+        assertThat(requests.get(), is(2));
+    }
+
+    @Test
+    public void testBackoffIsBounded() {
+        RetryPolicy policy = new RetryPolicy().backoff(10, 100, TimeUnit.MILLISECONDS);
+        for (int retry = 1; retry < 100; retry++) {
+            long backoff = policy.backoffNanos(retry, new ServiceUnavailableException());
+            assertThat(backoff, lessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(Math.min(100, 10L << Math.min(
+                    retry - 1, 30)))));
+        }
+    }
+
+    @Test
+    public void testRetryAfterIsHonored() {
+        RetryPolicy policy = new RetryPolicy();
+        assertThat(policy.backoffNanos(1, new ServiceUnavailableException(2L)), is(TimeUnit.SECONDS.toNanos(2)));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.fake.FakeKubernetesServer;
+import com.github.kubernetes.java.client.model.AbstractKubernetesModel;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.ReplicationController;
+import com.github.kubernetes.java.client.model.Service;
+import com.github.kubernetes.java.client.model.State;
+import com.github.kubernetes.java.client.v2.FieldSelector;
+import com.github.kubernetes.java.client.v2.ItemStream;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.KubernetesAsyncClient;
+import com.github.kubernetes.java.client.v2.LabelSelector;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.google.common.collect.ImmutableMap;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class SelectorTest {
+
+    private FakeKubernetesServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKubernetesServer().start();
+        server.addPod(pod("web1", ImmutableMap.of("name", "web", "env", "prod"), "host1", "Running"));
+        server.addPod(pod("web2", ImmutableMap.of("name", "web", "env", "staging"), "host2", "Waiting"));
+        server.addPod(pod("web3", ImmutableMap.of("name", "web", "env", "dev", "canary", "true"), "host1",
+                "Running"));
+        server.addPod(pod("db1", ImmutableMap.of("name", "db", "env", "prod"), "host2", "Running"));
+
+        ReplicationController controller = new ReplicationController();
+        controller.setId("web");
+        controller.setLabels(ImmutableMap.of("name", "web"));
+        server.addReplicationController(controller);
+        controller = new ReplicationController();
+        controller.setId("db");
+        controller.setLabels(ImmutableMap.of("name", "db"));
+        server.addReplicationController(controller);
+
+        Service service = new Service();
+        service.setId("frontend");
+        service.setLabels(ImmutableMap.of("tier", "frontend"));
+        server.addService(service);
+        service = new Service();
+        service.setId("backend");
+        service.setLabels(ImmutableMap.of("tier", "backend"));
+        server.addService(service);
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    private static Pod pod(String id, Map<String, String> labels, String host, String status) {
+        Pod pod = new Pod();
+        pod.setId(id);
+        pod.setLabels(labels);
+        State desired = new State();
+        desired.setHost(host);
+        pod.setDesiredState(desired);
+        State current = new State();
+        current.setHost(host);
+        current.setStatus(status);
+        pod.setCurrentState(current);
+        return pod;
+    }
+
+    private static List<String> ids(Iterable<? extends AbstractKubernetesModel> items) {
+        List<String> ids = new ArrayList<String>();
+        for (AbstractKubernetesModel item : items) {
+            ids.add(item.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void encoding() {
+        LabelSelector labels = new LabelSelector().equal("name", "frontend").in("env", "staging", "prod")
+                .doesNotExist("canary").exists("tier").notEqual("version", "1").notIn("zone", "a");
+        assertThat(labels.toString(), is("name=frontend,env in (prod,staging),!canary,tier,version!=1,zone notin (a)"));
+        assertThat(LabelSelector.parse(labels.toString()).toString(), is(labels.toString()));
+        assertThat(LabelSelector.of(ImmutableMap.of("name", "web")).toString(), is("name=web"));
+        assertThat(LabelSelector.parse(null).isEmpty(), is(true));
+
+        FieldSelector fields = new FieldSelector().equal("DesiredState.Host", "host1").notEqual("name", "web1");
+        assertThat(fields.toString(), is("DesiredState.Host=host1,name!=web1"));
+        assertThat(FieldSelector.parse(fields.toString()).toString(), is(fields.toString()));
+    }
+
+    @Test
+    public void matching() {
+        Map<String, String> labels = ImmutableMap.of("name", "web", "env", "prod");
+        assertThat(new LabelSelector().in("env", "prod", "staging").matches(labels), is(true));
+        assertThat(new LabelSelector().notIn("env", "prod").matches(labels), is(false));
+        // as in Kubernetes the negative operators match a missing label
+        assertThat(new LabelSelector().notIn("canary", "true").matches(labels), is(true));
+        assertThat(new LabelSelector().notEqual("canary", "true").matches(labels), is(true));
+        assertThat(new LabelSelector().exists("canary").matches(labels), is(false));
+        assertThat(new LabelSelector().doesNotExist("canary").matches(labels), is(true));
+        assertThat(new LabelSelector().equal("name", "web").exists("env").matches(null), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidKey() {
+        new LabelSelector().equal("not a key", "value");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSelector() {
+        LabelSelector.parse("env in (prod");
+    }
+
+    @Test
+    public void pods() throws Exception {
+        assertPods(new RestFactory());
+    }
+
+    @Test
+    public void podsDirect() throws Exception {
+        assertPods(new RestFactory().implementation(RestFactory.Implementation.DIRECT));
+    }
+
+    private void assertPods(RestFactory factory) throws Exception {
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password", factory);
+        long requests = server.getRequestCount();
+        assertThat(ids(client.getSelectedPods(new LabelSelector().equal("name", "web").notIn("env", "dev"))),
+                containsInAnyOrder("web1", "web2"));
+        assertThat(ids(client.getSelectedPods(new LabelSelector().doesNotExist("canary").in("env", "prod"))),
+                containsInAnyOrder("web1", "db1"));
+        assertThat(ids(client.getPods(null, new FieldSelector().equal("CurrentState.Status", "Running")
+                .notEqual("DesiredState.Host", "host2"))), containsInAnyOrder("web1", "web3"));
+        assertThat(ids(client.getPods(new LabelSelector().equal("name", "web"), new FieldSelector().equal(
+                "CurrentState.Host", "host2"))), containsInAnyOrder("web2"));
+        assertThat(client.getPods(new LabelSelector().equal("name", "none"), null).getItems(), is(empty()));
+        assertThat(ids(client.getPods(null, null)), containsInAnyOrder("web1", "web2", "web3", "db1"));
+        // one request each, the filtering is done by the server
+        assertThat(server.getRequestCount() - requests, is(6L));
+    }
+
+    @Test
+    public void replicationControllersAndServices() throws Exception {
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password");
+        assertThat(ids(client.getReplicationControllers(new LabelSelector().notEqual("name", "db"), null)),
+                containsInAnyOrder("web"));
+        assertThat(ids(client.getReplicationControllers(null, new FieldSelector().equal("name", "db"))),
+                containsInAnyOrder("db"));
+        assertThat(ids(client.getServices(new LabelSelector().in("tier", "frontend", "cache"), null)),
+                containsInAnyOrder("frontend"));
+        assertThat(ids(client.getServices(null, new FieldSelector().notEqual("name", "frontend"))),
+                containsInAnyOrder("backend"));
+    }
+
+    @Test
+    public void stream() throws Exception {
+        KubernetesApiClient client = new KubernetesApiClient(server.getEndpoint(), "user", "password");
+        List<String> ids = new ArrayList<String>();
+        try (ItemStream<Pod> pods = client.streamPods(new LabelSelector().exists("env"), new FieldSelector().equal(
+                "DesiredState.Host", "host2"))) {
+            while (pods.hasNext()) {
+                ids.add(pods.next().getId());
+            }
+        }
+        assertThat(ids, containsInAnyOrder("web2", "db1"));
+    }
+
+    @Test
+    public void async() throws Exception {
+        try (KubernetesAsyncClient client = new KubernetesAsyncClient(server.getEndpoint(), "user", "password")) {
+            assertThat(ids(client.getPods(new LabelSelector().in("env", "prod"), null).get()), containsInAnyOrder(
+                    "web1", "db1"));
+            assertThat(ids(client.getReplicationControllers(new LabelSelector().equal("name", "web"), null).get()),
+                    containsInAnyOrder("web"));
+            assertThat(ids(client.getServices(null, new FieldSelector().equal("name", "backend")).get()),
+                    containsInAnyOrder("backend"));
+        }
+    }
+}
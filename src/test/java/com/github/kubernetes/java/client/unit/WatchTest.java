@@ -0,0 +1,198 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package com.github.kubernetes.java.client.unit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.github.kubernetes.java.client.exceptions.KubernetesClientException;
+import com.github.kubernetes.java.client.interfaces.Watcher;
+import com.github.kubernetes.java.client.model.Pod;
+import com.github.kubernetes.java.client.model.WatchEvent;
+import com.github.kubernetes.java.client.v2.KubernetesApiClient;
+import com.github.kubernetes.java.client.v2.RestFactory;
+import com.github.kubernetes.java.client.v2.Watch;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@Category(com.github.kubernetes.java.client.UnitTests.class)
+public class WatchTest {
+
+    private HttpServer server;
+    private String query;
+    private final BlockingQueue<String> events = new LinkedBlockingQueue<String>();
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1beta2/pods", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                query = exchange.getRequestURI().getQuery();
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, 0);
+                OutputStream out = exchange.getResponseBody();
+                try {
+                    String event;
+                    while (!(event = events.take()).isEmpty()) {
+                        out.write(event.getBytes("UTF-8"));
+                        out.flush();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    out.close();
+                }
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testWatchPods() throws Exception {
+        assertWatchPods(new RestFactory());
+    }
+
+    @Test
+    public void testWatchPodsAsyncEngine() throws Exception {
+        assertWatchPods(new RestFactory().engine(RestFactory.Engine.ASYNC));
+    }
+
+    private void assertWatchPods(RestFactory factory) throws Exception {
+        KubernetesApiClient client = new KubernetesApiClient("http://localhost:" + server.getAddress().getPort(),
+                "user", "password", factory);
+        final List<WatchEvent<Pod>> received = new CopyOnWriteArrayList<WatchEvent<Pod>>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        final KubernetesClientException[] cause = new KubernetesClientException[1];
+
+        Watch<Pod> watch = client.watchPods(10, new Watcher<Pod>() {
+            public void eventReceived(WatchEvent<Pod> event) {
+                received.add(event);
+            }
+
+            public void onClose(KubernetesClientException e) {
+                cause[0] = e;
+                closed.countDown();
+            }
+        });
+        assertThat(query, is("watch=true&resourceVersion=10"));
+
+        events.put("{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\",\"id\":\"a\",\"resourceVersion\":11}}\n");
+        events.put("{\"object\":{\"kind\":\"Pod\",\"id\":\"a\",\"resourceVersion\":12},\"type\":\"MODIFIED\"}");
+        events.put("{\"type\":\"DELETED\",\"object\":{\"kind\":\"Pod\",\"id\":\"a\",\"resourceVersion\":13}}");
+        events.put("");
+
+        assertThat(closed.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(cause[0], nullValue());
+        assertThat(watch.isClosed(), is(true));
+        assertThat(received.size(), is(3));
+        assertThat(received.get(0).getType(), is(WatchEvent.Type.ADDED));
+        assertThat(received.get(1).getType(), is(WatchEvent.Type.MODIFIED));
+        assertThat(received.get(1).getObject().getResourceVersion(), is(12));
+        assertThat(received.get(2).getType(), is(WatchEvent.Type.DELETED));
+        assertThat(received.get(2).getObject().getId(), is("a"));
+    }
+
+    @Test
+    public void testWatchAgainFromAsyncCallback() throws Exception {
+        final KubernetesApiClient client = new KubernetesApiClient("http://localhost:"
+                + server.getAddress().getPort(), "user", "password",
+                new RestFactory().engine(RestFactory.Engine.ASYNC));
+        final List<String> threads = new CopyOnWriteArrayList<String>();
+        final CountDownLatch reopened = new CountDownLatch(1);
+        final Watcher<Pod> again = new Watcher<Pod>() {
+            public void eventReceived(WatchEvent<Pod> event) {
+            }
+
+            public void onClose(KubernetesClientException e) {
+            }
+        };
+
+        client.watchPods(10, new Watcher<Pod>() {
+            public void eventReceived(WatchEvent<Pod> event) {
+                threads.add(Thread.currentThread().getName());
+            }
+
+            public void onClose(KubernetesClientException e) {
+                threads.add(Thread.currentThread().getName());
+                // blocks until the new watch is open, as the caches do
+                client.watchPods(13, again);
+                reopened.countDown();
+            }
+        });
+        events.put("{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\",\"id\":\"a\",\"resourceVersion\":11}}\n");
+        events.put("");
+
+        assertThat(reopened.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(query, is("watch=true&resourceVersion=13"));
+        assertThat(threads.size(), is(2));
+        for (String thread : threads) {
+            assertThat(thread, not(startsWith("I/O dispatcher")));
+        }
+        events.put("");
+    }
+
+    @Test
+    public void testCloseWatch() throws Exception {
+        KubernetesApiClient client = new KubernetesApiClient("http://localhost:" + server.getAddress().getPort(),
+                "user", "password");
+        final CountDownLatch closed = new CountDownLatch(1);
+        final KubernetesClientException[] cause = new KubernetesClientException[1];
+
+        Watch<Pod> watch = client.watchPods(0, new Watcher<Pod>() {
+            public void eventReceived(WatchEvent<Pod> event) {
+            }
+
+            public void onClose(KubernetesClientException e) {
+                cause[0] = e;
+                closed.countDown();
+            }
+        });
+        watch.close();
+
+        assertThat(closed.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(cause[0], nullValue());
+        events.put("");
+    }
+}